@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the performance of checking, whether the areas of a dialog are scrollable, by using the
+ * class {@link AreaRange}, which is used by the class {@link ScrollableArea}. The areas are checked
+ * in the same order as they are when the views of a dialog's areas are added to its root view.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class AreaRangeBenchmark {
+
+    /**
+     * The number of areas of a dialog.
+     */
+    private static final int AREA_COUNT = 5;
+
+    /**
+     * The index of the top-most scrollable area or -1, if no area is scrollable.
+     */
+    @Param({"-1", "1", "3"})
+    public int topIndex;
+
+    /**
+     * The index of the bottom-most scrollable area.
+     */
+    private int bottomIndex;
+
+    /**
+     * Initializes the index of the bottom-most scrollable area.
+     */
+    @Setup
+    public void setUp() {
+        bottomIndex = topIndex != -1 ? AREA_COUNT - 2 : -1;
+    }
+
+    /**
+     * Checks for each area, whether it is scrollable and whether the previous area is scrollable,
+     * as it is done for each area, when the views of a dialog's areas are added to its root view.
+     *
+     * @return The number of areas, which are scrollable, as an {@link Integer} value
+     */
+    @Benchmark
+    public int checkAllAreas() {
+        int count = 0;
+
+        for (int i = 0; i < AREA_COUNT; i++) {
+            if (AreaRange.contains(topIndex, bottomIndex, i)) {
+                count++;
+
+                if (i > 0 && !AreaRange.contains(topIndex, bottomIndex, i - 1)) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the performance of matching list items against queries by using the class {@link
+ * ItemMatcher}. The same queries are matched once in an order, which allows each query to refine
+ * the previous one, and once in reverse order, which requires to match all list items each time.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class ItemMatcherBenchmark {
+
+    /**
+     * A signal, which never cancels matching list items.
+     */
+    private static final ItemMatcher.CancellationSignal NOT_CANCELLED =
+            new ItemMatcher.CancellationSignal() {
+
+                @Override
+                public boolean isCancelled() {
+                    return false;
+                }
+
+            };
+
+    /**
+     * The queries, which are matched, in an order, which allows each query to refine the previous
+     * one.
+     */
+    private static final String[] QUERIES = new String[]{"1", "12", "123"};
+
+    /**
+     * The number of list items.
+     */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /**
+     * The matcher, which is used to match the list items.
+     */
+    private ItemMatcher matcher;
+
+    /**
+     * Initializes the list items and normalizes their texts.
+     */
+    @Setup
+    public void setUp() {
+        CharSequence[] items = new CharSequence[itemCount];
+
+        for (int i = 0; i < itemCount; i++) {
+            items[i] = "Item " + i;
+        }
+
+        matcher = new ItemMatcher(items);
+        matcher.match("item", NOT_CANCELLED);
+    }
+
+    /**
+     * Matches the queries in an order, which allows each query to refine the previous one.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void matchRefinedQueries(final Blackhole blackhole) {
+        for (int i = 0; i < QUERIES.length; i++) {
+            blackhole.consume(matcher.match(QUERIES[i], NOT_CANCELLED));
+        }
+    }
+
+    /**
+     * Matches the queries in reverse order, which requires to match all list items each time.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void matchUnrelatedQueries(final Blackhole blackhole) {
+        for (int i = QUERIES.length - 1; i >= 0; i--) {
+            blackhole.consume(matcher.match(QUERIES[i], NOT_CANCELLED));
+        }
+    }
+
+}
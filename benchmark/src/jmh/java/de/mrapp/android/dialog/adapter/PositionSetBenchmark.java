@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the performance of selecting list items by using the class {@link PositionSet}, which
+ * is used by the choice modes of the class {@link RecyclerViewAdapterWrapper}.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class PositionSetBenchmark {
+
+    /**
+     * The number of list items.
+     */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /**
+     * The set, which contains the positions of the selected list items.
+     */
+    private PositionSet positions;
+
+    /**
+     * Initializes the set, which contains the positions of the selected list items, by selecting
+     * every second list item.
+     */
+    @Setup
+    public void setUp() {
+        positions = new PositionSet();
+
+        for (int i = 0; i < itemCount; i += 2) {
+            positions.set(i, true);
+        }
+    }
+
+    /**
+     * Selects and unselects all list items at once, as it is done when all list items are
+     * selected.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void setRange(final Blackhole blackhole) {
+        blackhole.consume(positions.set(0, itemCount, true));
+        blackhole.consume(positions.set(0, itemCount, false));
+    }
+
+    /**
+     * Selects and unselects all list items one by one.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void setIndividually(final Blackhole blackhole) {
+        for (int i = 0; i < itemCount; i++) {
+            blackhole.consume(positions.set(i, true));
+        }
+
+        for (int i = 0; i < itemCount; i++) {
+            blackhole.consume(positions.set(i, false));
+        }
+    }
+
+    /**
+     * Iterates the selected list items.
+     *
+     * @return The number of selected list items as an {@link Integer} value
+     */
+    @Benchmark
+    public int iterate() {
+        int count = 0;
+
+        for (int i = positions.next(0); i != -1; i = positions.next(i + 1)) {
+            count++;
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the performance of selecting list items by using the class {@link SinglePosition},
+ * which is used by the single choice mode of the class {@link RecyclerViewAdapterWrapper}.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class SinglePositionBenchmark {
+
+    /**
+     * The number of list items.
+     */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /**
+     * The position of the selected list item.
+     */
+    private SinglePosition position;
+
+    /**
+     * Initializes the position of the selected list item by selecting the list item in the
+     * middle.
+     */
+    @Setup
+    public void setUp() {
+        position = new SinglePosition();
+        position.set(itemCount / 2, true);
+    }
+
+    /**
+     * Selects all list items one after another, as it is done when the user clicks the list
+     * items.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void select(final Blackhole blackhole) {
+        for (int i = 0; i < itemCount; i++) {
+            blackhole.consume(position.set(i, true));
+        }
+    }
+
+    /**
+     * Checks for each list item, whether it is selected, as it is done when the list items are
+     * bound to their views.
+     *
+     * @return The number of selected list items as an {@link Integer} value
+     */
+    @Benchmark
+    public int checkAll() {
+        int count = 0;
+
+        for (int i = 0; i < itemCount; i++) {
+            if (position.contains(i)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.decorator;
+
+import java.util.BitSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the performance of encoding and decoding the states of list items by using the class
+ * {@link RunLengthEncoding}.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class RunLengthEncodingBenchmark {
+
+    /**
+     * The number of list items.
+     */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /**
+     * The distance between two list items, which have the state.
+     */
+    @Param({"1", "97"})
+    public int distance;
+
+    /**
+     * A bit set, which contains the positions of the list items, which have the state.
+     */
+    private BitSet values;
+
+    /**
+     * An array, which contains the lengths of the runs of the list items.
+     */
+    private int[] runs;
+
+    /**
+     * Initializes the states of the list items.
+     */
+    @Setup
+    public void setUp() {
+        values = new BitSet();
+
+        for (int i = 0; i < itemCount; i += distance) {
+            values.set(i);
+        }
+
+        runs = RunLengthEncoding.encodeRuns(values, itemCount);
+    }
+
+    /**
+     * Encodes the states of the list items.
+     *
+     * @return The lengths of the runs as an {@link Integer} array
+     */
+    @Benchmark
+    public int[] encodeRuns() {
+        return RunLengthEncoding.encodeRuns(values, itemCount);
+    }
+
+    /**
+     * Decodes the states of the list items.
+     *
+     * @return An array, which identifies the list items, which have the state, as a {@link
+     * Boolean} array
+     */
+    @Benchmark
+    public boolean[] decodeRuns() {
+        return RunLengthEncoding.decodeRuns(runs);
+    }
+
+}
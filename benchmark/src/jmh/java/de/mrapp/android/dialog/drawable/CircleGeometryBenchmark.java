@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.drawable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the performance of calculating the geometry of the circle, which is drawn by a {@link
+ * CircleTransitionDrawable}, for all frames of a transition. The geometry is once calculated for
+ * each frame, as it was done when drawing the drawable, and once precomputed by using the class
+ * {@link CircleGeometry}, which is used by the drawable.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class CircleGeometryBenchmark {
+
+    /**
+     * The number of frames of a transition.
+     */
+    private static final int FRAME_COUNT = 60;
+
+    /**
+     * The width of the drawable in pixels.
+     */
+    private int drawableWidth;
+
+    /**
+     * The height of the drawable in pixels.
+     */
+    private int drawableHeight;
+
+    /**
+     * The horizontal position, the circle grows from, in pixels.
+     */
+    private float fromX;
+
+    /**
+     * The vertical position, the circle grows from, in pixels or -1, if it grows from the center.
+     */
+    private float fromY;
+
+    /**
+     * The radius of the circle at the start of the transition in pixels.
+     */
+    private int fromRadius;
+
+    /**
+     * The geometry, which is precomputed once for the transition.
+     */
+    private CircleGeometry geometry;
+
+    /**
+     * Initializes the drawable's size and the values, the transition is started with, and
+     * precomputes the geometry of the transition.
+     */
+    @Setup
+    public void setUp() {
+        drawableWidth = 1080;
+        drawableHeight = 1920;
+        fromX = 200;
+        fromY = -1;
+        fromRadius = 24;
+        geometry = new CircleGeometry();
+        geometry.update(drawableWidth, drawableHeight, fromX, fromY, fromRadius);
+    }
+
+    /**
+     * Calculates the center and radius of the circle for a single frame from scratch, as it was
+     * done for each call of the drawable's <code>onDraw</code>-method. The method is not inlined,
+     * in order to prevent the calculations from being hoisted out of the loop over all frames.
+     *
+     * @param interpolatedTime
+     *         The interpolated time of the frame as a {@link Float} value between 0 and 1
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private void drawFrame(final float interpolatedTime, final Blackhole blackhole) {
+        float x = fromX != -1 ? fromX : drawableWidth / 2f;
+        float y = fromY != -1 ? fromY : drawableHeight / 2f;
+        float width = Math.max(x, drawableWidth - x);
+        float height = Math.max(y, drawableHeight - y);
+        double currentRadius = fromRadius +
+                (Math.sqrt(Math.pow(width, 2) + Math.pow(height, 2)) - fromRadius) *
+                        interpolatedTime;
+        blackhole.consume(fromX != -1 ? fromX : drawableWidth / 2f);
+        blackhole.consume(fromY != -1 ? fromY : drawableHeight / 2f);
+        blackhole.consume((float) currentRadius);
+    }
+
+    /**
+     * Calculates the radius of the circle for a single frame by using the precomputed geometry,
+     * as it is done for each call of the drawable's <code>onDraw</code>-method. The method is not
+     * inlined, in order to be comparable to the method {@link #drawFrame(float, Blackhole)}.
+     *
+     * @param interpolatedTime
+     *         The interpolated time of the frame as a {@link Float} value between 0 and 1
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private void drawPrecomputedFrame(final float interpolatedTime, final Blackhole blackhole) {
+        blackhole.consume(geometry.getCenterX());
+        blackhole.consume(geometry.getCenterY());
+        blackhole.consume(geometry.getRadius(interpolatedTime));
+    }
+
+    /**
+     * Calculates the center and radius of the circle for all frames of a transition from scratch.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void calculatePerFrame(final Blackhole blackhole) {
+        for (int i = 0; i <= FRAME_COUNT; i++) {
+            drawFrame((float) i / FRAME_COUNT, blackhole);
+        }
+    }
+
+    /**
+     * Calculates the radius of the circle for all frames of a transition by using the precomputed
+     * geometry.
+     *
+     * @param blackhole
+     *         The blackhole, which consumes the results, as an instance of the class {@link
+     *         Blackhole}
+     */
+    @Benchmark
+    public void usePrecomputedGeometry(final Blackhole blackhole) {
+        for (int i = 0; i <= FRAME_COUNT; i++) {
+            drawPrecomputedFrame((float) i / FRAME_COUNT, blackhole);
+        }
+    }
+
+}
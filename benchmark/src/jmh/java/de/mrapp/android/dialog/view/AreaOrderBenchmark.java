@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Measures the performance of ordering the areas of a dialog by using the class {@link AreaOrder},
+ * which is used by the class {@link DialogRootView} to sort the views of a dialog's areas, whenever
+ * they are added to the root view.
+ *
+ * @author Michael Rapp
+ */
+@State(Scope.Benchmark)
+public class AreaOrderBenchmark {
+
+    /**
+     * The indices of the areas of a dialog in the order they are typically provided by the
+     * dialog's decorators.
+     */
+    private final int[] indices = new int[]{1, 2, 0, 4, 3};
+
+    /**
+     * The comparator, which is used to sort the areas.
+     */
+    private final Comparator<Integer> comparator = new Comparator<Integer>() {
+
+        @Override
+        public int compare(final Integer index1, final Integer index2) {
+            return AreaOrder.compare(index1, index2);
+        }
+
+    };
+
+    /**
+     * Sorts the areas of a dialog by adding them to a sorted map, as it is done when the views of
+     * a dialog's areas are added to its root view.
+     *
+     * @return The sorted map, which contains the areas, as an instance of the type {@link
+     * SortedMap}. The map may not be null
+     */
+    @Benchmark
+    public SortedMap<Integer, Integer> sortAreas() {
+        SortedMap<Integer, Integer> areas = new TreeMap<>(comparator);
+
+        for (int index : indices) {
+            areas.put(index, index);
+        }
+
+        return areas;
+    }
+
+}
@@ -27,6 +27,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StyleRes;
 import androidx.recyclerview.widget.RecyclerView;
 
+import de.mrapp.android.dialog.adapter.ItemSource;
 import de.mrapp.android.dialog.decorator.ListDialogDecorator;
 import de.mrapp.android.dialog.model.ListDialog;
 
@@ -119,6 +120,36 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         decorator.setItemIconTintMode(mode);
     }
 
+    @Override
+    public final boolean areItemViewsFlattened() {
+        return decorator.areItemViewsFlattened();
+    }
+
+    @Override
+    public final void setItemViewsFlattened(final boolean flattened) {
+        decorator.setItemViewsFlattened(flattened);
+    }
+
+    @Override
+    public final boolean isFilterFieldShown() {
+        return decorator.isFilterFieldShown();
+    }
+
+    @Override
+    public final void showFilterField(final boolean show) {
+        decorator.showFilterField(show);
+    }
+
+    @Override
+    public final CharSequence getFilterQuery() {
+        return decorator.getFilterQuery();
+    }
+
+    @Override
+    public final void setFilterQuery(@Nullable final CharSequence query) {
+        decorator.setFilterQuery(query);
+    }
+
     @Override
     public final void setItemTypeface(@NonNull final Typeface typeface) {
         decorator.setItemTypeface(typeface);
@@ -139,6 +170,26 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         decorator.setItemChecked(position, checked);
     }
 
+    @Override
+    public final void setItemsChecked(@NonNull final int[] positions, final boolean checked) {
+        decorator.setItemsChecked(positions, checked);
+    }
+
+    @Override
+    public final void setAllItemsChecked(final boolean checked) {
+        decorator.setAllItemsChecked(checked);
+    }
+
+    @Override
+    public final void invertAllItemsChecked() {
+        decorator.invertAllItemsChecked();
+    }
+
+    @Override
+    public final int getCheckedItemCount() {
+        return decorator.getCheckedItemCount();
+    }
+
     @Override
     public final boolean isItemEnabled(final int position) {
         return decorator.isItemEnabled(position);
@@ -149,6 +200,12 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         decorator.setItemEnabled(position, enabled);
     }
 
+    @Override
+    public final void setItemsEnabled(final int fromPosition, final int toPosition,
+                                      final boolean enabled) {
+        decorator.setItemsEnabled(fromPosition, toPosition, enabled);
+    }
+
     @Override
     public final void setItems(@Nullable final CharSequence[] items,
                                @Nullable final OnClickListener listener) {
@@ -259,6 +316,46 @@ public abstract class AbstractListDialog extends AbstractButtonBarDialog impleme
         decorator.setMultiChoiceItems(adapter, layoutManager, checkedItems, listener);
     }
 
+    @Override
+    public final void setItemSource(@Nullable final ItemSource source,
+                                    @Nullable final OnClickListener listener) {
+        decorator.setItemSource(source, listener);
+    }
+
+    @Override
+    public final void setSingleChoiceItemSource(@Nullable final ItemSource source,
+                                                final int checkedItem,
+                                                @Nullable final OnClickListener listener) {
+        decorator.setSingleChoiceItemSource(source, checkedItem, listener);
+    }
+
+    @Override
+    public final void setMultiChoiceItemSource(@Nullable final ItemSource source,
+                                               @Nullable final boolean[] checkedItems,
+                                               @Nullable final OnMultiChoiceClickListener listener) {
+        decorator.setMultiChoiceItemSource(source, checkedItems, listener);
+    }
+
+    @Override
+    public final boolean areItemsRetainedInMemory() {
+        return decorator.areItemsRetainedInMemory();
+    }
+
+    @Override
+    public final void setItemsRetainedInMemory(final boolean retainedInMemory) {
+        decorator.setItemsRetainedInMemory(retainedInMemory);
+    }
+
+    @Override
+    public final int getItemPrefetchDistance() {
+        return decorator.getItemPrefetchDistance();
+    }
+
+    @Override
+    public final void setItemPrefetchDistance(final int prefetchDistance) {
+        decorator.setItemPrefetchDistance(prefetchDistance);
+    }
+
     @Override
     public final void setOnItemSelectedListener(
             @Nullable final ListDialog.OnItemSelectedListener listener) {
@@ -17,6 +17,7 @@ import android.annotation.SuppressLint;
 import android.app.Dialog;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
@@ -25,6 +26,7 @@ import android.os.Bundle;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.view.Window;
 import android.widget.ScrollView;
 
@@ -69,19 +71,44 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
      */
     private final Collection<AbstractDecorator> decorators;
 
+    /**
+     * The resource id of the theme, which is used by the dialog.
+     */
+    private final int themeResourceId;
+
     /**
      * The root view of the dialog.
      */
     private DialogRootView rootView;
 
     /**
-     * Inflates the dialog's root view.
+     * True, if the view hierarchy of the dialog is retained, when the dialog is hidden, false
+     * otherwise.
+     */
+    private boolean viewHierarchyRetained;
+
+    /**
+     * The configuration, the dialog's view hierarchy has been created for, or null, if no view
+     * hierarchy has been created.
+     */
+    private Configuration configuration;
+
+    /**
+     * True, if the dialog is returned to the {@link DialogPool}, when it is dismissed, false
+     * otherwise.
+     */
+    private boolean recyclable;
+
+    /**
+     * Inflates the dialog's root view. If the view has already been inflated in advance by using
+     * the class {@link DialogPrewarmer}, the prepared view is used instead.
      *
      * @return The view, which has been inflated, as an instance of the class {@link View}. The view
      * may not be null
      */
     private View inflateLayout() {
-        return View.inflate(getContext(), R.layout.material_dialog, null);
+        View view = DialogPrewarmer.obtainRootView(getContext(), themeResourceId);
+        return view != null ? view : View.inflate(getContext(), R.layout.material_dialog, null);
     }
 
     /**
@@ -146,6 +173,76 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         }
     }
 
+    /**
+     * Inflates the dialog's view hierarchy and attaches all registered decorators to it.
+     */
+    private void attachViewHierarchy() {
+        View view = inflateLayout();
+        view.setOnTouchListener(createCanceledOnTouchListener());
+        setContentView(view);
+        Window window = getWindow();
+        assert window != null;
+        rootView = view.findViewById(R.id.dialog_root_view);
+        assert rootView != null;
+        Map<ViewType, View> areas = attachDecorators(window, rootView, view);
+        rootView.addAreas(areas);
+        configuration = new Configuration(getContext().getResources().getConfiguration());
+    }
+
+    /**
+     * Detaches all registered decorators from the dialog's view hierarchy and releases it.
+     */
+    private void detachViewHierarchy() {
+        if (rootView != null) {
+            detachDecorators(rootView);
+            rootView = null;
+        }
+
+        configuration = null;
+    }
+
+    /**
+     * Returns, whether the view hierarchy, which has been retained, can be reused, or not. This is
+     * not the case, if the configuration has changed since it has been created.
+     *
+     * @return True, if the view hierarchy can be reused, false otherwise
+     */
+    private boolean isRetainedViewHierarchyValid() {
+        return rootView != null && configuration != null &&
+                configuration.diff(getContext().getResources().getConfiguration()) == 0;
+    }
+
+    /**
+     * Resets the properties, which may have been modified by an animation, which has been used to
+     * hide the dialog, of the retained view hierarchy. This includes the root view, the views, it
+     * is contained by, and the window's decor view.
+     *
+     * @param window
+     *         The window, the dialog belongs to, as an instance of the class {@link Window}. The
+     *         window may not be null
+     */
+    private void resetRetainedViewHierarchy(@NonNull final Window window) {
+        View decorView = window.getDecorView();
+        View view = rootView;
+
+        while (view != null) {
+            view.animate().cancel();
+            view.setVisibility(View.VISIBLE);
+            view.setAlpha(1f);
+            view.setScaleX(1f);
+            view.setScaleY(1f);
+            view.setTranslationX(0f);
+            view.setTranslationY(0f);
+
+            if (view == decorView) {
+                break;
+            }
+
+            ViewParent parent = view.getParent();
+            view = parent instanceof View ? (View) parent : null;
+        }
+    }
+
     /**
      * Creates a dialog, which is designed according to Android 5's Material Design guidelines even
      * on pre-Lollipop devices.
@@ -162,6 +259,10 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         super(context, themeResourceId);
         this.decorator = new MaterialDialogDecorator(this);
         this.decorators = new LinkedList<>();
+        this.themeResourceId = themeResourceId;
+        this.viewHierarchyRetained = false;
+        this.recyclable = false;
+        this.configuration = null;
         addDecorator(decorator);
         requestWindowFeature(Window.FEATURE_NO_TITLE);
         setCanceledOnTouchOutside(true);
@@ -189,6 +290,90 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
         return true;
     }
 
+    /**
+     * Returns the resource id of the theme, which is used by the dialog.
+     *
+     * @return The resource id of the theme, which is used by the dialog, as an {@link Integer}
+     * value
+     */
+    final int getThemeResourceId() {
+        return themeResourceId;
+    }
+
+    /**
+     * Returns, whether the dialog is returned to the {@link DialogPool}, when it is dismissed, or
+     * not.
+     *
+     * @return True, if the dialog is returned to the pool, when it is dismissed, false otherwise
+     */
+    final boolean isRecyclable() {
+        return recyclable;
+    }
+
+    /**
+     * Sets, whether the dialog should be returned to the {@link DialogPool}, when it is dismissed,
+     * or not.
+     *
+     * @param recyclable
+     *         True, if the dialog should be returned to the pool, when it is dismissed, false
+     *         otherwise
+     */
+    final void setRecyclable(final boolean recyclable) {
+        this.recyclable = recyclable;
+    }
+
+    /**
+     * Resets the dialog, in order to reuse it. The view hierarchy is released and all properties,
+     * which are not obtained from the dialog's theme, such as texts, icons, typefaces, tint modes,
+     * custom views and listeners, are discarded.
+     */
+    final void recycle() {
+        detachViewHierarchy();
+        setOnShowListener(null);
+        setOnDismissListener(null);
+        setOnCancelListener(null);
+        setOnKeyListener(null);
+        setCancelable(true);
+        setCanceledOnTouchOutside(true);
+
+        for (AbstractDecorator<?, ?> decorator : decorators) {
+            decorator.reset();
+        }
+    }
+
+    /**
+     * Returns, whether the view hierarchy of the dialog is retained, when the dialog is hidden, or
+     * not.
+     *
+     * @return True, if the view hierarchy of the dialog is retained, false otherwise
+     * @since 5.3.0
+     */
+    public final boolean isViewHierarchyRetained() {
+        return viewHierarchyRetained;
+    }
+
+    /**
+     * Sets, whether the view hierarchy of the dialog should be retained, when the dialog is
+     * hidden, or not. If the view hierarchy is retained, it is not inflated again, when the dialog
+     * is shown the next time, unless the configuration has changed in the meantime. Properties,
+     * which are changed while the dialog is hidden, are applied to the retained views directly.
+     * The visibility, alpha, scale and translation, which may have been modified by an animation,
+     * which has been used to hide the dialog, are reset, when the retained views are reused. This
+     * is useful for dialogs, which are shown frequently, at the expense of keeping their views
+     * in memory.
+     *
+     * @param viewHierarchyRetained
+     *         True, if the view hierarchy of the dialog should be retained, false otherwise
+     * @since 5.3.0
+     */
+    public final void setViewHierarchyRetained(final boolean viewHierarchyRetained) {
+        this.viewHierarchyRetained = viewHierarchyRetained;
+
+        if (!viewHierarchyRetained && !isShowing()) {
+            detachViewHierarchy();
+        }
+    }
+
     @Override
     public final ScrollView getScrollView() {
         return rootView != null ? rootView.getScrollView() : null;
@@ -638,23 +823,29 @@ public abstract class AbstractMaterialDialog extends Dialog implements MaterialD
     @Override
     public final void onStart() {
         super.onStart();
-        View view = inflateLayout();
-        view.setOnTouchListener(createCanceledOnTouchListener());
-        setContentView(view);
         Window window = getWindow();
         assert window != null;
         window.setLayout(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
-        rootView = view.findViewById(R.id.dialog_root_view);
-        assert rootView != null;
-        Map<ViewType, View> areas = attachDecorators(window, rootView, view);
-        rootView.addAreas(areas);
+
+        if (isRetainedViewHierarchyValid()) {
+            resetRetainedViewHierarchy(window);
+        } else {
+            detachViewHierarchy();
+            attachViewHierarchy();
+        }
     }
 
     @Override
     public final void onStop() {
         super.onStop();
-        detachDecorators(rootView);
-        rootView = null;
+
+        if (!viewHierarchyRetained) {
+            detachViewHierarchy();
+        }
+
+        if (recyclable) {
+            DialogPool.getInstance().release(this);
+        }
     }
 
     @CallSuper
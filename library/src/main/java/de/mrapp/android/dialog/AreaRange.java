@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+/**
+ * Provides static methods, which allow to check, whether the areas of a dialog are contained by a
+ * range of areas, which is identified by the indices of its top-most and bottom-most area.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class AreaRange {
+
+    /**
+     * Creates a new class, which provides static methods, which allow to check, whether the areas
+     * of a dialog are contained by a range of areas.
+     */
+    private AreaRange() {
+
+    }
+
+    /**
+     * Returns, whether an area is contained by a range of areas, or not.
+     *
+     * @param topIndex
+     *         The index of the top-most area of the range as an {@link Integer} value or -1, if
+     *         the range is empty
+     * @param bottomIndex
+     *         The index of the bottom-most area of the range as an {@link Integer} value. The
+     *         index must be at least <code>topIndex</code>, if the range is not empty
+     * @param index
+     *         The index of the area, which should be checked, as an {@link Integer} value
+     * @return True, if the area is contained by the range, false otherwise
+     */
+    static boolean contains(final int topIndex, final int bottomIndex, final int index) {
+        return topIndex != -1 && topIndex <= index && bottomIndex >= index;
+    }
+
+}
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.os.Build;
+import android.os.Bundle;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import de.mrapp.util.Condition;
+
+/**
+ * A pool, which allows to reuse dialogs, which have been dismissed, instead of creating new ones.
+ * If the pool is enabled by setting a maximum size greater than 0, the dialogs, which are created
+ * by the builders of the classes {@link MaterialDialog}, {@link ProgressDialog} and {@link
+ * EditTextDialog}, are returned to the pool, when they are dismissed. A builder, which uses the
+ * same context and theme, reuses such a dialog after resetting all properties, which are not
+ * obtained from the theme. Therefore, when the pool is enabled, a dialog must not be used anymore
+ * after it has been dismissed. The pool is cleared, when the configuration changes, and trimmed,
+ * when the system runs low on memory. Dialogs, whose activity is finishing or has been destroyed,
+ * are evicted, in order to not leak the activity.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public final class DialogPool implements ComponentCallbacks2 {
+
+    /**
+     * The single instance of the class.
+     */
+    private static DialogPool instance;
+
+    /**
+     * A list, which contains the dialogs, which are retained by the pool, ordered from the least
+     * recently to the most recently returned one.
+     */
+    private final LinkedList<AbstractMaterialDialog> dialogs;
+
+    /**
+     * True, if the pool has been registered to be notified about memory and configuration
+     * changes, false otherwise.
+     */
+    private boolean registered;
+
+    /**
+     * The maximum number of dialogs, which are retained by the pool.
+     */
+    private int maxSize;
+
+    /**
+     * The number of dialogs, which have been obtained from the pool.
+     */
+    private int hitCount;
+
+    /**
+     * The number of dialogs, which had to be created, because no suitable dialog was retained by
+     * the pool.
+     */
+    private int missCount;
+
+    /**
+     * The number of dialogs, which have been evicted from the pool.
+     */
+    private int evictionCount;
+
+    /**
+     * Creates a new pool, which allows to reuse dialogs.
+     */
+    private DialogPool() {
+        this.dialogs = new LinkedList<>();
+        this.registered = false;
+        this.maxSize = 0;
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    /**
+     * Evicts the least recently returned dialogs, until the number of dialogs, which are retained
+     * by the pool, does not exceed a specific size.
+     *
+     * @param maxSize
+     *         The size, which should not be exceeded, as an {@link Integer} value
+     */
+    private void trimToSize(final int maxSize) {
+        while (dialogs.size() > maxSize) {
+            dialogs.removeFirst();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns the activity or the context, a specific context belongs to, by unwrapping it.
+     *
+     * @param context
+     *         The context, which should be unwrapped, as an instance of the class {@link Context}.
+     *         The context may not be null
+     * @return The activity or context, the given context belongs to, as an instance of the class
+     * {@link Context}. The context may not be null
+     */
+    @NonNull
+    static Context getOwner(@NonNull final Context context) {
+        Context owner = context;
+
+        while (!(owner instanceof Activity) && owner instanceof ContextWrapper &&
+                ((ContextWrapper) owner).getBaseContext() != null) {
+            owner = ((ContextWrapper) owner).getBaseContext();
+        }
+
+        return owner;
+    }
+
+    /**
+     * Returns, whether a specific activity or context is finishing or has been destroyed, or not.
+     *
+     * @param owner
+     *         The activity or context as an instance of the class {@link Context}. The context may
+     *         not be null
+     * @return True, if the given activity or context is finishing or has been destroyed, false
+     * otherwise
+     */
+    private static boolean isFinished(@NonNull final Context owner) {
+        if (owner instanceof Activity) {
+            Activity activity = (Activity) owner;
+            return activity.isFinishing() ||
+                    (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 &&
+                            activity.isDestroyed());
+        }
+
+        return false;
+    }
+
+    /**
+     * Evicts all dialogs, whose activity or context is finishing or has been destroyed, or which
+     * belong to a specific activity or context.
+     *
+     * @param owner
+     *         The activity or context, whose dialogs should be evicted, as an instance of the class
+     *         {@link Context} or null, if only the dialogs of finished activities should be evicted
+     */
+    private void evictFinished(@Nullable final Context owner) {
+        Iterator<AbstractMaterialDialog> iterator = dialogs.iterator();
+
+        while (iterator.hasNext()) {
+            Context dialogOwner = getOwner(iterator.next().getContext());
+
+            if (dialogOwner == owner || isFinished(dialogOwner)) {
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Registers the pool to be notified about memory and configuration changes, as well as about
+     * destroyed activities, if not already registered.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     */
+    private void register(@NonNull final Context context) {
+        if (!registered) {
+            Context applicationContext = context.getApplicationContext();
+            applicationContext.registerComponentCallbacks(this);
+
+            if (applicationContext instanceof Application) {
+                ((Application) applicationContext)
+                        .registerActivityLifecycleCallbacks(createActivityLifecycleCallbacks());
+            }
+
+            registered = true;
+        }
+    }
+
+    /**
+     * Creates and returns callbacks, which evict the dialogs of an activity, when it is destroyed.
+     *
+     * @return The callbacks, which have been created, as an instance of the type {@link
+     * Application.ActivityLifecycleCallbacks}. The callbacks may not be null
+     */
+    @NonNull
+    private Application.ActivityLifecycleCallbacks createActivityLifecycleCallbacks() {
+        return new Application.ActivityLifecycleCallbacks() {
+
+            @Override
+            public void onActivityCreated(@NonNull final Activity activity,
+                                          @Nullable final Bundle savedInstanceState) {
+
+            }
+
+            @Override
+            public void onActivityStarted(@NonNull final Activity activity) {
+
+            }
+
+            @Override
+            public void onActivityResumed(@NonNull final Activity activity) {
+
+            }
+
+            @Override
+            public void onActivityPaused(@NonNull final Activity activity) {
+
+            }
+
+            @Override
+            public void onActivityStopped(@NonNull final Activity activity) {
+
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(@NonNull final Activity activity,
+                                                    @NonNull final Bundle outState) {
+
+            }
+
+            @Override
+            public void onActivityDestroyed(@NonNull final Activity activity) {
+                synchronized (DialogPool.this) {
+                    evictFinished(activity);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Returns the single instance of the class.
+     *
+     * @return The single instance of the class as an instance of the class {@link DialogPool}. The
+     * instance may not be null
+     */
+    @NonNull
+    public static synchronized DialogPool getInstance() {
+        if (instance == null) {
+            instance = new DialogPool();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns a dialog of a specific type, which uses a specific context and theme, if such a
+     * dialog is retained by the pool. The dialog is reset, before it is returned.
+     *
+     * @param type
+     *         The type of the dialog as an instance of the class {@link Class}. The class may not
+     *         be null
+     * @param context
+     *         The context, which is used by the dialog, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme, which is used by the dialog, as an {@link Integer}
+     *         value
+     * @param <DialogType>
+     *         The type of the dialog
+     * @return The dialog, which has been obtained from the pool, as an instance of the generic
+     * type DialogType or null, if no suitable dialog is retained by the pool
+     */
+    @Nullable
+    synchronized <DialogType extends AbstractMaterialDialog> DialogType obtain(
+            @NonNull final Class<DialogType> type, @NonNull final Context context,
+            @StyleRes final int themeResourceId) {
+        if (maxSize > 0) {
+            evictFinished(null);
+            Context owner = getOwner(context);
+            Iterator<AbstractMaterialDialog> iterator = dialogs.descendingIterator();
+
+            while (iterator.hasNext()) {
+                AbstractMaterialDialog dialog = iterator.next();
+
+                if (dialog.isShowing()) {
+                    iterator.remove();
+                } else if (dialog.getClass() == type &&
+                        dialog.getThemeResourceId() == themeResourceId &&
+                        getOwner(dialog.getContext()) == owner) {
+                    iterator.remove();
+                    hitCount++;
+                    dialog.recycle();
+                    return type.cast(dialog);
+                }
+            }
+
+            missCount++;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a dialog, which has been dismissed, to the pool, in order to be reused. If the pool
+     * is disabled or the dialog's activity is finishing or has been destroyed, the dialog is
+     * discarded.
+     *
+     * @param dialog
+     *         The dialog, which should be returned, as an instance of the class {@link
+     *         AbstractMaterialDialog}. The dialog may not be null
+     */
+    synchronized void release(@NonNull final AbstractMaterialDialog dialog) {
+        Condition.INSTANCE.ensureNotNull(dialog, "The dialog may not be null");
+
+        if (maxSize > 0) {
+            evictFinished(null);
+
+            if (!dialogs.contains(dialog) && !isFinished(getOwner(dialog.getContext()))) {
+                register(dialog.getContext());
+                dialogs.addLast(dialog);
+                trimToSize(maxSize);
+            }
+        }
+    }
+
+    /**
+     * Evicts all dialogs, which are retained by the pool.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Returns the maximum number of dialogs, which are retained by the pool.
+     *
+     * @return The maximum number of dialogs, which are retained by the pool, as an {@link Integer}
+     * value. If the maximum number is 0, the pool is disabled
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of dialogs, which are retained by the pool. If more dialogs are
+     * currently retained, the least recently returned ones are evicted. By default, the maximum
+     * number is 0, which disables the pool.
+     *
+     * @param maxSize
+     *         The maximum number, which should be set, as an {@link Integer} value. The maximum
+     *         number must be at least 0
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        Condition.INSTANCE.ensureAtLeast(maxSize, 0, "The maximum size must be at least 0");
+        this.maxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Returns the number of dialogs, which are currently retained by the pool.
+     *
+     * @return The number of dialogs, which are currently retained by the pool, as an {@link
+     * Integer} value
+     */
+    public synchronized int getSize() {
+        return dialogs.size();
+    }
+
+    /**
+     * Returns the number of dialogs, which have been obtained from the pool.
+     *
+     * @return The number of dialogs, which have been obtained from the pool, as an {@link Integer}
+     * value
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of dialogs, which had to be created, because no suitable dialog was
+     * retained by the pool.
+     *
+     * @return The number of dialogs, which had to be created, as an {@link Integer} value
+     */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of dialogs, which have been evicted from the pool.
+     *
+     * @return The number of dialogs, which have been evicted from the pool, as an {@link Integer}
+     * value
+     */
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of dialogs, which have been obtained from the pool, to all dialogs, which
+     * have been requested while the pool was enabled.
+     *
+     * @return The hit rate as a {@link Float} value between 0 and 1
+     */
+    public synchronized float getHitRate() {
+        int requestCount = hitCount + missCount;
+        return requestCount > 0 ? (float) hitCount / requestCount : 0;
+    }
+
+    @Override
+    public synchronized void onTrimMemory(final int level) {
+        if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            clear();
+        } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+            trimToSize(dialogs.size() / 2);
+        }
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+        clear();
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+}
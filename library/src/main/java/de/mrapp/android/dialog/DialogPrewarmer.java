@@ -0,0 +1,635 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+import android.view.InflateException;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import de.mrapp.android.dialog.builder.StyledAttributes;
+import de.mrapp.util.Condition;
+
+/**
+ * Allows to prepare the creation of dialogs in advance, before they are shown for the first time.
+ * While the main thread is idle, the theme attributes, which are obtained by the builders, are
+ * resolved and cached and the layouts, which are used by the dialogs, are inflated. The root
+ * layout of a dialog is retained and used by the next dialog, which uses the same context, theme
+ * and configuration, instead of inflating it again. Inflating the other layouts causes the
+ * corresponding classes to be loaded and the layout resources to be cached. Prepared layouts are
+ * discarded, when the configuration changes, the system runs low on memory or the activity, they
+ * have been inflated for, is destroyed.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public final class DialogPrewarmer {
+
+    /**
+     * Contains all kinds of dialogs, which can be prepared.
+     */
+    public enum DialogKind {
+
+        /**
+         * A dialog, which shows a title, message and buttons.
+         */
+        MATERIAL(R.layout.material_dialog_title, R.layout.material_dialog_message,
+                R.layout.material_dialog_header, R.layout.header_icon_image_view,
+                R.layout.button_bar_container, R.layout.horizontal_button_bar),
+
+        /**
+         * A dialog, which shows list items.
+         */
+        LIST(R.layout.material_dialog_list_view, android.R.layout.simple_list_item_1,
+                android.R.layout.simple_list_item_single_choice,
+                android.R.layout.simple_list_item_multiple_choice),
+
+        /**
+         * A dialog, which shows a progress bar.
+         */
+        PROGRESS(R.layout.progress_dialog_left),
+
+        /**
+         * A dialog, which contains an edit text widget.
+         */
+        EDIT_TEXT(R.layout.edit_text_dialog),
+
+        /**
+         * A wizard dialog.
+         */
+        WIZARD(R.layout.wizard_dialog_view_pager, R.layout.wizard_dialog_tab_layout);
+
+        /**
+         * The resource ids of the layouts, which are used by the kind of dialog.
+         */
+        private final int[] layoutResourceIds;
+
+        /**
+         * Creates a new kind of dialog.
+         *
+         * @param layoutResourceIds
+         *         The resource ids of the layouts, which are used by the kind of dialog, as an
+         *         {@link Integer} array
+         */
+        DialogKind(@LayoutRes final int... layoutResourceIds) {
+            this.layoutResourceIds = layoutResourceIds;
+        }
+
+    }
+
+    /**
+     * A root layout of a dialog, which has been inflated in advance.
+     */
+    private static final class PreparedView {
+
+        /**
+         * The activity or context, the view has been inflated for.
+         */
+        private final Context owner;
+
+        /**
+         * The resource id of the theme, the view has been inflated with.
+         */
+        private final int themeResourceId;
+
+        /**
+         * The configuration, the view has been inflated for.
+         */
+        private final Configuration configuration;
+
+        /**
+         * The view, which has been inflated.
+         */
+        private final View view;
+
+        /**
+         * Creates a new root layout of a dialog, which has been inflated in advance.
+         *
+         * @param owner
+         *         The activity or context, the view has been inflated for, as an instance of the
+         *         class {@link Context}. The context may not be null
+         * @param themeResourceId
+         *         The resource id of the theme, the view has been inflated with, as an {@link
+         *         Integer} value
+         * @param configuration
+         *         The configuration, the view has been inflated for, as an instance of the class
+         *         {@link Configuration}. The configuration may not be null
+         * @param view
+         *         The view, which has been inflated, as an instance of the class {@link View}. The
+         *         view may not be null
+         */
+        PreparedView(@NonNull final Context owner, @StyleRes final int themeResourceId,
+                     @NonNull final Configuration configuration, @NonNull final View view) {
+            this.owner = owner;
+            this.themeResourceId = themeResourceId;
+            this.configuration = configuration;
+            this.view = view;
+        }
+
+        /**
+         * Returns, whether the view can be used by a dialog, which uses a specific context and
+         * theme, or not.
+         *
+         * @param owner
+         *         The activity or context, the dialog belongs to, as an instance of the class
+         *         {@link Context}. The context may not be null
+         * @param themeResourceId
+         *         The resource id of the dialog's theme as an {@link Integer} value
+         * @param configuration
+         *         The current configuration as an instance of the class {@link Configuration}.
+         *         The configuration may not be null
+         * @return True, if the view can be used by the dialog, false otherwise
+         */
+        boolean matches(@NonNull final Context owner, @StyleRes final int themeResourceId,
+                        @NonNull final Configuration configuration) {
+            return this.owner == owner && this.themeResourceId == themeResourceId &&
+                    this.configuration.equals(configuration);
+        }
+
+    }
+
+    /**
+     * The resource id of the root layout, which is used by all kinds of dialogs.
+     */
+    @LayoutRes
+    private static final int ROOT_LAYOUT_RESOURCE_ID = R.layout.material_dialog;
+
+    /**
+     * The resource ids of the layouts, which are used by all kinds of dialogs, except the root
+     * layout.
+     */
+    private static final int[] COMMON_LAYOUT_RESOURCE_IDS =
+            new int[]{R.layout.material_dialog_scroll_view};
+
+    /**
+     * A map, which contains the layouts, which have already been prepared for a specific theme,
+     * mapped to the configuration they have been prepared for.
+     */
+    private static final Map<Configuration, Set<String>> PREPARED_LAYOUTS = new HashMap<>();
+
+    /**
+     * A list, which contains the root layouts, which have been inflated in advance and have not
+     * been used by a dialog yet.
+     */
+    private static final LinkedList<PreparedView> PREPARED_VIEWS = new LinkedList<>();
+
+    /**
+     * True, if the prepared layouts have been registered to be discarded, when the configuration
+     * changes, the system runs low on memory or an activity is destroyed, false otherwise.
+     */
+    private static boolean registered;
+
+    /**
+     * Creates a new class, which allows to prepare the creation of dialogs in advance.
+     */
+    private DialogPrewarmer() {
+
+    }
+
+    /**
+     * Returns the resource id of the theme, which is used by dialogs by default, if no theme is
+     * specified.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @return The resource id of the theme as an {@link Integer} value
+     */
+    @StyleRes
+    private static int getDefaultThemeResourceId(@NonNull final Context context) {
+        TypedValue typedValue = new TypedValue();
+        context.getTheme().resolveAttribute(R.attr.materialDialogTheme, typedValue, true);
+        int themeResourceId = typedValue.resourceId;
+        return themeResourceId != 0 ? themeResourceId : R.style.MaterialDialog_Light;
+    }
+
+    /**
+     * Discards all prepared layouts.
+     */
+    private static void clear() {
+        synchronized (PREPARED_LAYOUTS) {
+            PREPARED_LAYOUTS.clear();
+            PREPARED_VIEWS.clear();
+        }
+    }
+
+    /**
+     * Discards the root layouts, which have been inflated for a specific activity or context.
+     *
+     * @param owner
+     *         The activity or context as an instance of the class {@link Context}. The context may
+     *         not be null
+     */
+    private static void clear(@NonNull final Context owner) {
+        synchronized (PREPARED_LAYOUTS) {
+            Iterator<PreparedView> iterator = PREPARED_VIEWS.iterator();
+
+            while (iterator.hasNext()) {
+                if (iterator.next().owner == owner) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the prepared layouts to be discarded, when the configuration changes, the system
+     * runs low on memory or an activity is destroyed, if not already registered. This method must
+     * be called while synchronized on {@link #PREPARED_LAYOUTS}.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     */
+    private static void register(@NonNull final Context context) {
+        Context applicationContext = context.getApplicationContext();
+
+        if (!registered && applicationContext instanceof Application) {
+            Application application = (Application) applicationContext;
+            application.registerComponentCallbacks(new ComponentCallbacks2() {
+
+                @Override
+                public void onTrimMemory(final int level) {
+                    if (level >= TRIM_MEMORY_RUNNING_LOW) {
+                        clear();
+                    }
+                }
+
+                @Override
+                public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+                    clear();
+                }
+
+                @Override
+                public void onLowMemory() {
+                    clear();
+                }
+
+            });
+            application.registerActivityLifecycleCallbacks(
+                    new Application.ActivityLifecycleCallbacks() {
+
+                        @Override
+                        public void onActivityCreated(@NonNull final Activity activity,
+                                                      @Nullable final Bundle savedInstanceState) {
+
+                        }
+
+                        @Override
+                        public void onActivityStarted(@NonNull final Activity activity) {
+
+                        }
+
+                        @Override
+                        public void onActivityResumed(@NonNull final Activity activity) {
+
+                        }
+
+                        @Override
+                        public void onActivityPaused(@NonNull final Activity activity) {
+
+                        }
+
+                        @Override
+                        public void onActivityStopped(@NonNull final Activity activity) {
+
+                        }
+
+                        @Override
+                        public void onActivitySaveInstanceState(@NonNull final Activity activity,
+                                                                @NonNull final Bundle outState) {
+
+                        }
+
+                        @Override
+                        public void onActivityDestroyed(@NonNull final Activity activity) {
+                            clear(activity);
+                        }
+
+                    });
+            registered = true;
+        }
+    }
+
+    /**
+     * Returns, whether a specific layout has already been prepared for a specific theme and
+     * configuration, or not. This method must be called while synchronized on {@link
+     * #PREPARED_LAYOUTS}.
+     *
+     * @param configuration
+     *         The configuration as an instance of the class {@link Configuration}. The
+     *         configuration may not be null
+     * @param key
+     *         The key, which identifies the theme and the layout, as a {@link String}. The key may
+     *         not be null
+     * @return True, if the layout has already been prepared, false otherwise
+     */
+    private static boolean isPrepared(@NonNull final Configuration configuration,
+                                      @NonNull final String key) {
+        Set<String> keys = PREPARED_LAYOUTS.get(configuration);
+        return keys != null && keys.contains(key);
+    }
+
+    /**
+     * Returns, whether a root layout, which has been inflated in advance, is available for a
+     * specific context, theme and configuration, or not. This method must be called while
+     * synchronized on {@link #PREPARED_LAYOUTS}.
+     *
+     * @param owner
+     *         The activity or context as an instance of the class {@link Context}. The context may
+     *         not be null
+     * @param themeResourceId
+     *         The resource id of the theme as an {@link Integer} value
+     * @param configuration
+     *         The configuration as an instance of the class {@link Configuration}. The
+     *         configuration may not be null
+     * @return True, if a root layout is available, false otherwise
+     */
+    private static boolean isViewPrepared(@NonNull final Context owner,
+                                          @StyleRes final int themeResourceId,
+                                          @NonNull final Configuration configuration) {
+        for (PreparedView preparedView : PREPARED_VIEWS) {
+            if (preparedView.matches(owner, themeResourceId, configuration)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates and returns a task, which resolves the theme attributes, which are obtained by the
+     * builders, for a specific theme.
+     *
+     * @param context
+     *         The context, the theme is applied to, as an instance of the class {@link Context}.
+     *         The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme as an {@link Integer} value
+     * @return The task, which has been created, as an instance of the type {@link Runnable}. The
+     * task may not be null
+     */
+    @NonNull
+    private static Runnable createStyledAttributesTask(@NonNull final Context context,
+                                                       @StyleRes final int themeResourceId) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                StyledAttributes.prefetch(context, themeResourceId);
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a task, which inflates the root layout of dialogs in advance, unless a
+     * root layout is already available for the same context, theme and configuration.
+     *
+     * @param themedContext
+     *         The context, which uses the theme and should be used to inflate the layout, as an
+     *         instance of the class {@link Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme as an {@link Integer} value
+     * @return The task, which has been created, as an instance of the type {@link Runnable}. The
+     * task may not be null
+     */
+    @NonNull
+    private static Runnable createRootLayoutTask(@NonNull final Context themedContext,
+                                                 @StyleRes final int themeResourceId) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                Context owner = DialogPool.getOwner(themedContext);
+                Configuration configuration =
+                        new Configuration(themedContext.getResources().getConfiguration());
+
+                synchronized (PREPARED_LAYOUTS) {
+                    if (isViewPrepared(owner, themeResourceId, configuration)) {
+                        return;
+                    }
+                }
+
+                try {
+                    View view = LayoutInflater.from(themedContext)
+                            .inflate(ROOT_LAYOUT_RESOURCE_ID, null);
+
+                    synchronized (PREPARED_LAYOUTS) {
+                        register(themedContext);
+                        PREPARED_VIEWS.add(
+                                new PreparedView(owner, themeResourceId, configuration, view));
+                    }
+                } catch (InflateException e) {
+                    // The layout will be inflated again, when the dialog is shown
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a task, which inflates a specific layout, unless it has already been
+     * prepared for the same theme and configuration.
+     *
+     * @param themedContext
+     *         The context, which uses the theme and should be used to inflate the layout, as an
+     *         instance of the class {@link Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme as an {@link Integer} value
+     * @param layoutResourceId
+     *         The resource id of the layout as an {@link Integer} value
+     * @return The task, which has been created, as an instance of the type {@link Runnable}. The
+     * task may not be null
+     */
+    @NonNull
+    private static Runnable createLayoutTask(@NonNull final Context themedContext,
+                                             @StyleRes final int themeResourceId,
+                                             @LayoutRes final int layoutResourceId) {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                String key = themeResourceId + ":" + layoutResourceId;
+                Configuration configuration =
+                        new Configuration(themedContext.getResources().getConfiguration());
+
+                synchronized (PREPARED_LAYOUTS) {
+                    if (isPrepared(configuration, key)) {
+                        return;
+                    }
+                }
+
+                try {
+                    LayoutInflater.from(themedContext)
+                            .inflate(layoutResourceId, new FrameLayout(themedContext), false);
+
+                    synchronized (PREPARED_LAYOUTS) {
+                        register(themedContext);
+                        Set<String> keys = PREPARED_LAYOUTS.get(configuration);
+
+                        if (keys == null) {
+                            keys = new HashSet<>();
+                            PREPARED_LAYOUTS.put(configuration, keys);
+                        }
+
+                        keys.add(key);
+                    }
+                } catch (InflateException e) {
+                    // The layout will be inflated again, when the dialog is shown
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns an idle handler, which executes one of the tasks, which are contained by
+     * a queue, whenever the main thread is idle, until the queue is empty.
+     *
+     * @param queue
+     *         The queue, which contains the tasks, which should be executed, as an instance of the
+     *         type {@link Queue}. The queue may not be null
+     * @return The idle handler, which has been created, as an instance of the type {@link
+     * MessageQueue.IdleHandler}. The idle handler may not be null
+     */
+    @NonNull
+    private static MessageQueue.IdleHandler createIdleHandler(
+            @NonNull final Queue<Runnable> queue) {
+        return new MessageQueue.IdleHandler() {
+
+            @Override
+            public boolean queueIdle() {
+                Runnable task = queue.poll();
+
+                if (task != null) {
+                    task.run();
+                }
+
+                return !queue.isEmpty();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the root layout, which has been inflated in advance for a dialog, which uses a
+     * specific context and theme, and removes it from the prepared layouts. This method must be
+     * called on the UI thread.
+     *
+     * @param context
+     *         The context, which is used by the dialog, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the dialog's theme as an {@link Integer} value
+     * @return The root layout as an instance of the class {@link View} or null, if no root layout
+     * has been inflated in advance for the given context and theme
+     */
+    @Nullable
+    static View obtainRootView(@NonNull final Context context,
+                               @StyleRes final int themeResourceId) {
+        Context owner = DialogPool.getOwner(context);
+        Configuration configuration = context.getResources().getConfiguration();
+
+        synchronized (PREPARED_LAYOUTS) {
+            Iterator<PreparedView> iterator = PREPARED_VIEWS.iterator();
+
+            while (iterator.hasNext()) {
+                PreparedView preparedView = iterator.next();
+
+                if (preparedView.matches(owner, themeResourceId, configuration)) {
+                    iterator.remove();
+                    return preparedView.view;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Prepares the creation of specific kinds of dialogs, which use a specific theme. The theme
+     * attributes, which are obtained by the builders, are resolved and the layouts, which are used
+     * by the dialogs, are inflated on the main thread, one at a time, whenever it is idle. The
+     * root layout is retained for the next dialog, which uses the same context and theme. Other
+     * layouts, which have already been prepared for the same theme and configuration, are
+     * omitted. This method may be called from any thread.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param themeResourceId
+     *         The resource id of the theme, which is used by the dialogs, as an {@link Integer}
+     *         value or 0, if the default theme is used
+     * @param dialogKinds
+     *         The kinds of dialogs, which should be prepared, as an array of the type {@link
+     *         DialogKind}. The array may not be null
+     */
+    public static void prewarm(@NonNull final Context context, @StyleRes final int themeResourceId,
+                               @NonNull final DialogKind... dialogKinds) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureNotNull(dialogKinds, "The array may not be null");
+        int themeId =
+                themeResourceId != 0 ? themeResourceId : getDefaultThemeResourceId(context);
+        Context themedContext = new ContextThemeWrapper(context, themeId);
+        final Queue<Runnable> queue = new LinkedList<>();
+        queue.add(createStyledAttributesTask(context, themeId));
+        queue.add(createRootLayoutTask(themedContext, themeId));
+
+        for (int layoutResourceId : COMMON_LAYOUT_RESOURCE_IDS) {
+            queue.add(createLayoutTask(themedContext, themeId, layoutResourceId));
+        }
+
+        for (DialogKind dialogKind : dialogKinds) {
+            Condition.INSTANCE.ensureNotNull(dialogKind, "The dialog kind may not be null");
+
+            for (int layoutResourceId : dialogKind.layoutResourceIds) {
+                queue.add(createLayoutTask(themedContext, themeId, layoutResourceId));
+            }
+        }
+
+        new Handler(Looper.getMainLooper()).post(new Runnable() {
+
+            @Override
+            public void run() {
+                Looper.myQueue().addIdleHandler(createIdleHandler(queue));
+            }
+
+        });
+    }
+
+}
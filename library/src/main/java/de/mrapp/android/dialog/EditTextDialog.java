@@ -15,7 +15,6 @@ package de.mrapp.android.dialog;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.os.Bundle;
 import android.widget.EditText;
 
@@ -29,6 +28,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.annotation.StyleRes;
 import de.mrapp.android.dialog.builder.AbstractButtonBarDialogBuilder;
+import de.mrapp.android.dialog.builder.StyledAttributes;
 import de.mrapp.android.dialog.model.EditTextDialogDecorator;
 import de.mrapp.android.util.ThemeUtil;
 import de.mrapp.android.validation.ValidationListener;
@@ -63,9 +63,9 @@ public class EditTextDialog extends AbstractButtonBarDialog implements EditTextD
          *         Integer} value
          */
         private void obtainErrorColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogErrorColor});
-            ColorStateList colorStateList = typedArray.getColorStateList(0);
+            StyledAttributes attributes = getStyledAttributes();
+            ColorStateList colorStateList =
+                    attributes.getColorStateList(R.attr.materialDialogErrorColor);
 
             if (colorStateList != null) {
                 setErrorColor(colorStateList);
@@ -80,9 +80,9 @@ public class EditTextDialog extends AbstractButtonBarDialog implements EditTextD
          *         Integer} value
          */
         private void obtainHelperTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogHelperTextColor});
-            ColorStateList colorStateList = typedArray.getColorStateList(0);
+            StyledAttributes attributes = getStyledAttributes();
+            ColorStateList colorStateList =
+                    attributes.getColorStateList(R.attr.materialDialogHelperTextColor);
 
             if (colorStateList != null) {
                 setHelperTextColor(colorStateList);
@@ -355,7 +355,15 @@ public class EditTextDialog extends AbstractButtonBarDialog implements EditTextD
         @NonNull
         @Override
         protected final EditTextDialog onCreateProduct() {
-            return new EditTextDialog(getContext(), getThemeResourceId());
+            EditTextDialog dialog = DialogPool.getInstance()
+                    .obtain(EditTextDialog.class, getContext(), getThemeResourceId());
+
+            if (dialog == null) {
+                dialog = new EditTextDialog(getContext(), getThemeResourceId());
+                dialog.setRecyclable(true);
+            }
+
+            return dialog;
         }
 
         @Override
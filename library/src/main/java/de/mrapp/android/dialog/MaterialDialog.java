@@ -86,7 +86,15 @@ public class MaterialDialog extends AbstractListDialog {
         @NonNull
         @Override
         protected final MaterialDialog onCreateProduct() {
-            return new MaterialDialog(getContext(), getThemeResourceId());
+            MaterialDialog dialog = DialogPool.getInstance()
+                    .obtain(MaterialDialog.class, getContext(), getThemeResourceId());
+
+            if (dialog == null) {
+                dialog = new MaterialDialog(getContext(), getThemeResourceId());
+                dialog.setRecyclable(true);
+            }
+
+            return dialog;
         }
 
     }
@@ -14,13 +14,13 @@
 package de.mrapp.android.dialog;
 
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.os.Bundle;
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
 
 import de.mrapp.android.dialog.builder.AbstractButtonBarDialogBuilder;
+import de.mrapp.android.dialog.builder.StyledAttributes;
 import de.mrapp.android.dialog.model.ProgressDialogDecorator;
 import de.mrapp.android.util.ThemeUtil;
 
@@ -122,11 +122,11 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarColor});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultColor =
                     ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setProgressBarColor(typedArray.getColor(0, defaultColor));
+            setProgressBarColor(attributes.getColor(R.attr.materialDialogProgressBarColor,
+                    defaultColor));
         }
 
         /**
@@ -137,11 +137,12 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarSize(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarSize});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.circular_progress_bar_size_normal);
-            setProgressBarSize(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setProgressBarSize(
+                    attributes.getDimensionPixelSize(R.attr.materialDialogProgressBarSize,
+                            defaultHeight));
         }
 
         /**
@@ -152,11 +153,12 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarThickness(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarThickness});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.circular_progress_bar_thickness_normal);
-            setProgressBarThickness(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setProgressBarThickness(
+                    attributes.getDimensionPixelSize(R.attr.materialDialogProgressBarThickness,
+                            defaultHeight));
         }
 
         /**
@@ -167,11 +169,11 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
          *         Integer} value
          */
         private void obtainProgressBarPosition(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogProgressBarPosition});
+            StyledAttributes attributes = getStyledAttributes();
             ProgressBarPosition defaultPosition = ProgressBarPosition.LEFT;
             setProgressBarPosition(ProgressBarPosition
-                    .fromValue(typedArray.getInt(0, defaultPosition.getValue())));
+                    .fromValue(attributes.getInt(R.attr.materialDialogProgressBarPosition,
+                            defaultPosition.getValue())));
         }
 
         /**
@@ -275,7 +277,15 @@ public class ProgressDialog extends AbstractButtonBarDialog implements ProgressD
         @NonNull
         @Override
         protected final ProgressDialog onCreateProduct() {
-            return new ProgressDialog(getContext(), getThemeResourceId());
+            ProgressDialog dialog = DialogPool.getInstance()
+                    .obtain(ProgressDialog.class, getContext(), getThemeResourceId());
+
+            if (dialog == null) {
+                dialog = new ProgressDialog(getContext(), getThemeResourceId());
+                dialog.setRecyclable(true);
+            }
+
+            return dialog;
         }
 
         @Override
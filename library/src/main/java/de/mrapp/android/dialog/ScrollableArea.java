@@ -206,8 +206,8 @@ public final class ScrollableArea implements Serializable, Parcelable {
      * @return True, if the given area is scrollable, false otherwise
      */
     public final boolean isScrollable(@NonNull final Area area) {
-        return topScrollableArea != null && topScrollableArea.getIndex() <= area.getIndex() &&
-                bottomScrollableArea.getIndex() >= area.getIndex();
+        return topScrollableArea != null && AreaRange.contains(topScrollableArea.getIndex(),
+                bottomScrollableArea.getIndex(), area.getIndex());
     }
 
     /**
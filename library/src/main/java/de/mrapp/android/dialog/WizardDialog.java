@@ -14,7 +14,6 @@
 package de.mrapp.android.dialog;
 
 import android.content.Context;
-import android.content.res.TypedArray;
 import android.os.Bundle;
 import android.text.TextUtils;
 import android.widget.Button;
@@ -33,6 +32,7 @@ import androidx.viewpager.widget.ViewPager;
 import androidx.viewpager.widget.ViewPager.OnPageChangeListener;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.builder.AbstractHeaderDialogBuilder;
+import de.mrapp.android.dialog.builder.StyledAttributes;
 import de.mrapp.android.dialog.model.WizardDialogDecorator;
 import de.mrapp.android.util.ThemeUtil;
 import de.mrapp.util.Condition;
@@ -177,10 +177,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabPosition(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabPosition});
+            StyledAttributes attributes = getStyledAttributes();
             TabPosition defaultPosition = TabPosition.PREFER_HEADER;
-            setTabPosition(TabPosition.fromValue(typedArray.getInt(0, defaultPosition.getValue())));
+            setTabPosition(
+                    TabPosition.fromValue(attributes.getInt(R.attr.materialDialogTabPosition,
+                            defaultPosition.getValue())));
         }
 
         /**
@@ -192,9 +193,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainEnableTabLayout(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogEnableTabLayout});
-            enableTabLayout(typedArray.getBoolean(0, true));
+            StyledAttributes attributes = getStyledAttributes();
+            enableTabLayout(attributes.getBoolean(R.attr.materialDialogEnableTabLayout, true));
         }
 
         /**
@@ -205,9 +205,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowTabLayout(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowTabLayout});
-            showTabLayout(typedArray.getBoolean(0, true));
+            StyledAttributes attributes = getStyledAttributes();
+            showTabLayout(attributes.getBoolean(R.attr.materialDialogShowTabLayout, true));
         }
 
         /**
@@ -218,11 +217,12 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         Integer} value
          */
         private void obtainTabIndicatorHeight(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabIndicatorHeight});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultHeight = getContext().getResources()
                     .getDimensionPixelSize(R.dimen.dialog_tab_indicator_height);
-            setTabIndicatorHeight(typedArray.getDimensionPixelSize(0, defaultHeight));
+            setTabIndicatorHeight(
+                    attributes.getDimensionPixelSize(R.attr.materialDialogTabIndicatorHeight,
+                            defaultHeight));
         }
 
         /**
@@ -233,11 +233,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         Integer} value
          */
         private void obtainTabIndicatorColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabIndicatorColor});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultColor =
                     ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setTabIndicatorColor(typedArray.getColor(0, defaultColor));
+            setTabIndicatorColor(attributes.getColor(R.attr.materialDialogTabIndicatorColor,
+                    defaultColor));
         }
 
         /**
@@ -248,11 +248,10 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabTextColor});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultColor = ThemeUtil
                     .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-            setTabTextColor(typedArray.getColor(0, defaultColor));
+            setTabTextColor(attributes.getColor(R.attr.materialDialogTabTextColor, defaultColor));
         }
 
         /**
@@ -263,11 +262,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainTabSelectedTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogTabSelectedTextColor});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultColor = ThemeUtil
                     .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-            setTabSelectedTextColor(typedArray.getColor(0, defaultColor));
+            setTabSelectedTextColor(attributes.getColor(R.attr.materialDialogTabSelectedTextColor,
+                    defaultColor));
         }
 
         /**
@@ -279,9 +278,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainEnableSwipe(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogEnableSwipe});
-            enableSwipe(typedArray.getBoolean(0, true));
+            StyledAttributes attributes = getStyledAttributes();
+            enableSwipe(attributes.getBoolean(R.attr.materialDialogEnableSwipe, true));
         }
 
         /**
@@ -292,9 +290,8 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowButtonBar(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowButtonBar});
-            showButtonBar(typedArray.getBoolean(0, true));
+            StyledAttributes attributes = getStyledAttributes();
+            showButtonBar(attributes.getBoolean(R.attr.materialDialogShowButtonBar, true));
         }
 
         /**
@@ -305,11 +302,11 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainButtonTextColor(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogButtonTextColor});
+            StyledAttributes attributes = getStyledAttributes();
             int defaultColor =
                     ThemeUtil.getColor(getContext(), themeResourceId, R.attr.colorAccent);
-            setButtonTextColor(typedArray.getColor(0, defaultColor));
+            setButtonTextColor(attributes.getColor(R.attr.materialDialogButtonTextColor,
+                    defaultColor));
         }
 
         /**
@@ -320,10 +317,9 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainBackButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogBackButtonText});
+            StyledAttributes attributes = getStyledAttributes();
             CharSequence defaultText = getContext().getText(R.string.back_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = attributes.getText(R.attr.materialDialogBackButtonText);
             setBackButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -335,10 +331,9 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainNextButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogNextButtonText});
+            StyledAttributes attributes = getStyledAttributes();
             CharSequence defaultText = getContext().getText(R.string.next_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = attributes.getText(R.attr.materialDialogNextButtonText);
             setNextButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -350,10 +345,9 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainFinishButtonText(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogFinishButtonText});
+            StyledAttributes attributes = getStyledAttributes();
             CharSequence defaultText = getContext().getText(R.string.finish_button_text);
-            CharSequence text = typedArray.getText(0);
+            CharSequence text = attributes.getText(R.attr.materialDialogFinishButtonText);
             setFinishButtonText(!TextUtils.isEmpty(text) ? text : defaultText);
         }
 
@@ -366,9 +360,9 @@ public class WizardDialog extends AbstractHeaderDialogFragment implements Wizard
          *         {@link Integer} value
          */
         private void obtainShowButtonBarDivider(@StyleRes final int themeResourceId) {
-            TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                    new int[]{R.attr.materialDialogShowButtonBarDivider});
-            showButtonBarDivider(typedArray.getBoolean(0, false));
+            StyledAttributes attributes = getStyledAttributes();
+            showButtonBarDivider(attributes.getBoolean(R.attr.materialDialogShowButtonBarDivider,
+                    false));
         }
 
         /**
@@ -19,6 +19,8 @@ import android.content.res.Resources;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
+import android.text.TextUtils;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -30,6 +32,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.app.ActivityCompat;
 import androidx.core.graphics.drawable.DrawableCompat;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import de.mrapp.android.dialog.R;
@@ -86,12 +89,12 @@ public class ArrayRecyclerViewAdapter
     /**
      * An array, which contains the texts of the adapter's list items.
      */
-    private final CharSequence[] items;
+    private CharSequence[] items;
 
     /**
      * An array, which contains the resource ids of the list items' icons.
      */
-    private final int[] iconResourceIds;
+    private int[] iconResourceIds;
 
     /**
      * The text color of the adapter's list items.
@@ -113,6 +116,18 @@ public class ArrayRecyclerViewAdapter
      */
     private PorterDuff.Mode itemTintMode = PorterDuff.Mode.SRC_ATOP;
 
+    /**
+     * A sparse array, which contains the constant states of the tinted icons, which have already
+     * been loaded, mapped to their resource ids.
+     */
+    private final SparseArray<Drawable.ConstantState> iconStates = new SparseArray<>();
+
+    /**
+     * The padding between the icon and the text of a list item in pixels or -1, if the padding
+     * has not been resolved yet.
+     */
+    private int iconPadding = -1;
+
     /**
      * Adapts the padding of a list item.
      *
@@ -121,13 +136,29 @@ public class ArrayRecyclerViewAdapter
      */
     private void adaptPadding(@NonNull final ViewHolder holder) {
         View view = holder.itemView;
-        Context context = view.getContext();
-        Resources resources = context.getResources();
+        Resources resources = view.getResources();
         int leftPadding = resources.getDimensionPixelSize(R.dimen.dialog_left_padding);
         int rightPadding = resources.getDimensionPixelSize(R.dimen.dialog_right_padding);
         view.setPadding(leftPadding, view.getPaddingTop(), rightPadding, view.getPaddingBottom());
     }
 
+    /**
+     * Returns the padding between the icon and the text of a list item. The padding is only
+     * resolved from the theme once.
+     *
+     * @param context The context, which should be used to resolve the padding, as an instance of
+     *                the class {@link Context}. The context may not be null
+     * @return The padding in pixels as an {@link Integer} value
+     */
+    private int getIconPadding(@NonNull final Context context) {
+        if (iconPadding == -1) {
+            iconPadding = ThemeUtil.getDimensionPixelSize(context,
+                    android.R.attr.listPreferredItemPaddingLeft);
+        }
+
+        return iconPadding;
+    }
+
     /**
      * Adapts the text of a list item.
      *
@@ -170,18 +201,26 @@ public class ArrayRecyclerViewAdapter
 
                 if (textView != null) {
                     Context context = textView.getContext();
-                    int drawablePadding = ThemeUtil.getDimensionPixelSize(context,
-                            android.R.attr.listPreferredItemPaddingLeft);
-                    textView.setCompoundDrawablePadding(drawablePadding);
+                    textView.setCompoundDrawablePadding(getIconPadding(context));
                     textView.setCompoundDrawablesWithIntrinsicBounds(getIcon(context, position),
                             null, null, null);
                 }
             }
+        } else {
+            ImageView imageView = holder.imageView;
+            TextView textView = holder.textView;
+
+            if (imageView != null) {
+                imageView.setImageDrawable(null);
+            } else if (textView != null && textView.getCompoundDrawables()[0] != null) {
+                textView.setCompoundDrawablesWithIntrinsicBounds(null, null, null, null);
+            }
         }
     }
 
     /**
-     * Returns the icon of a list item.
+     * Returns the icon of a list item. Once an icon has been loaded and tinted, further instances
+     * are created from its constant state, which prevents from loading and tinting it again.
      *
      * @param context  The context, which should be used, as an instance of the class
      *                 {@link Context}. The context may not be null
@@ -191,11 +230,24 @@ public class ArrayRecyclerViewAdapter
      */
     @Nullable
     private Drawable getIcon(@NonNull final Context context, final int position) {
-        Drawable icon = ActivityCompat.getDrawable(context, iconResourceIds[position]);
+        int iconResourceId = iconResourceIds[position];
+        Drawable.ConstantState iconState = iconStates.get(iconResourceId);
+
+        if (iconState != null) {
+            return iconState.newDrawable(context.getResources());
+        }
+
+        Drawable icon = ActivityCompat.getDrawable(context, iconResourceId);
 
         if (icon != null) {
+            icon = icon.mutate();
             DrawableCompat.setTintList(icon, itemTintList);
             DrawableCompat.setTintMode(icon, itemTintMode);
+            iconState = icon.getConstantState();
+
+            if (iconState != null) {
+                iconStates.put(iconResourceId, iconState);
+            }
         }
 
         return icon;
@@ -226,6 +278,67 @@ public class ArrayRecyclerViewAdapter
         this.itemTypeface = null;
     }
 
+    /**
+     * Replaces the adapter's list items. The differences between the previous and the new list
+     * items are calculated, but not dispatched. List items are considered to be the same, if their
+     * texts are equal, and their contents are considered to be the same, if their icons are equal
+     * as well.
+     * <p>
+     * The differences are calculated synchronously on the calling thread by using DiffUtil, whose
+     * running time grows with the number of list items and the number of changes. As the adapter's
+     * list items are replaced immediately, this method must be called on the UI thread.
+     *
+     * @param items
+     *         An array, which contains the texts of the new list items, as a {@link CharSequence}
+     *         array. The array may not be null
+     * @param iconResourceIds
+     *         An array, which contains the resource ids of the new items' icons, as an {@link
+     *         Integer} array or null, if no icons should be displayed
+     * @return The differences between the previous and the new list items as an instance of the
+     * class DiffUtil.DiffResult. The differences may not be null
+     */
+    @NonNull
+    public final DiffUtil.DiffResult setItems(@NonNull final CharSequence[] items,
+                                              @Nullable final int[] iconResourceIds) {
+        Condition.INSTANCE.ensureNotNull(items, "The array may not be null");
+        Condition.INSTANCE.ensureTrue(iconResourceIds == null ||
+                        items.length == iconResourceIds.length,
+                "Invalid number of icon resource ids given");
+        final CharSequence[] oldItems = this.items;
+        final int[] oldIconResourceIds = this.iconResourceIds;
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+
+            @Override
+            public int getOldListSize() {
+                return oldItems.length;
+            }
+
+            @Override
+            public int getNewListSize() {
+                return items.length;
+            }
+
+            @Override
+            public boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+                return TextUtils.equals(oldItems[oldItemPosition], items[newItemPosition]);
+            }
+
+            @Override
+            public boolean areContentsTheSame(final int oldItemPosition,
+                                              final int newItemPosition) {
+                int oldIconResourceId =
+                        oldIconResourceIds != null ? oldIconResourceIds[oldItemPosition] : -1;
+                int newIconResourceId =
+                        iconResourceIds != null ? iconResourceIds[newItemPosition] : -1;
+                return oldIconResourceId == newIconResourceId;
+            }
+
+        });
+        this.items = items;
+        this.iconResourceIds = iconResourceIds;
+        return diffResult;
+    }
+
     /**
      * Returns the text color of the adapter's items.
      *
@@ -279,6 +392,7 @@ public class ArrayRecyclerViewAdapter
      */
     public void setItemIconTintList(@Nullable final ColorStateList colorStateList) {
         this.itemTintList = colorStateList;
+        iconStates.clear();
         notifyDataSetChanged();
     }
 
@@ -291,6 +405,7 @@ public class ArrayRecyclerViewAdapter
     public void setItemIconTintMode(@NonNull final PorterDuff.Mode mode) {
         Condition.INSTANCE.ensureNotNull(mode, "The tint mode may not be null");
         this.itemTintMode = mode;
+        iconStates.clear();
         notifyDataSetChanged();
     }
 
@@ -305,12 +420,13 @@ public class ArrayRecyclerViewAdapter
                                                final int viewType) {
         LayoutInflater inflater = LayoutInflater.from(parent.getContext());
         View view = inflater.inflate(layoutResourceId, parent, false);
-        return new ViewHolder(view);
+        ViewHolder holder = new ViewHolder(view);
+        adaptPadding(holder);
+        return holder;
     }
 
     @Override
     public final void onBindViewHolder(@NonNull final ViewHolder holder, final int position) {
-        adaptPadding(holder);
         adaptText(holder, position);
         adaptIcon(holder, position);
     }
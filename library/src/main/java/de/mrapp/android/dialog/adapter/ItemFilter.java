@@ -0,0 +1,217 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A filter, which allows to determine the list items, whose texts contain a specific query. The
+ * list items are filtered on a background thread. Starting a new query cancels the previous one,
+ * whose results are discarded.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public class ItemFilter {
+
+    /**
+     * Defines the interface, a class, which should be notified about the results of a filter,
+     * must implement.
+     */
+    public interface Callback {
+
+        /**
+         * The method, which is invoked on the UI thread, when the list items have been filtered.
+         *
+         * @param positions An array, which contains the positions of the list items, whose texts
+         *                  contain the query, in ascending order, as an {@link Integer} array or
+         *                  null, if the query is empty
+         */
+        void onFiltered(@Nullable int[] positions);
+
+    }
+
+    /**
+     * The executor, which is used to filter list items on a background thread.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * The texts of the list items, which are filtered.
+     */
+    private final CharSequence[] items;
+
+    /**
+     * The handler, which is used to deliver results on the UI thread.
+     */
+    private final Handler handler;
+
+    /**
+     * The generation of the current query. It is incremented whenever a query is started or
+     * cancelled.
+     */
+    private final AtomicInteger generation;
+
+    /**
+     * The matcher, which is used to determine the list items, whose texts contain a query. It is
+     * only accessed on the background thread.
+     */
+    private final ItemMatcher matcher;
+
+    /**
+     * The future of the query, which is currently processed, or null, if no query is processed.
+     */
+    private Future<?> future;
+
+    /**
+     * Returns the executor, which is used to filter list items on a background thread.
+     *
+     * @return The executor as an instance of the type {@link ExecutorService}. The executor may
+     * not be null
+     */
+    @NonNull
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable) {
+                    Thread thread = new Thread(runnable, ItemFilter.class.getSimpleName());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+
+            });
+        }
+
+        return executor;
+    }
+
+    /**
+     * Returns, whether a query has been cancelled, or not.
+     *
+     * @param queryGeneration The generation of the query as an {@link Integer} value
+     * @return True, if the query has been cancelled, false otherwise
+     */
+    private boolean isCancelled(final int queryGeneration) {
+        return generation.get() != queryGeneration || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Creates a new filter, which allows to determine the list items, whose texts contain a
+     * specific query.
+     *
+     * @param items An array, which contains the texts of the list items, which should be filtered,
+     *              as a {@link CharSequence} array. The array may not be null
+     */
+    public ItemFilter(@NonNull final CharSequence[] items) {
+        Condition.INSTANCE.ensureNotNull(items, "The array may not be null");
+        this.items = items;
+        this.handler = new Handler(Looper.getMainLooper());
+        this.generation = new AtomicInteger();
+        this.matcher = new ItemMatcher(items);
+        this.future = null;
+    }
+
+    /**
+     * Returns the texts of the list items, which are filtered.
+     *
+     * @return An array, which contains the texts of the list items, which are filtered, as a
+     * {@link CharSequence} array. The array may not be null
+     */
+    @NonNull
+    public final CharSequence[] getItems() {
+        return items;
+    }
+
+    /**
+     * Filters the list items by using a specific query. The query is not case-sensitive. If the
+     * query is empty, the callback is notified immediately. Otherwise, the list items are filtered
+     * on a background thread and any previous query, which has not been completed yet, is
+     * cancelled. This method must be called on the UI thread.
+     *
+     * @param query    The query as an instance of the type {@link CharSequence} or null, if all
+     *                 list items should be shown
+     * @param callback The callback, which should be notified about the results, as an instance of
+     *                 the type {@link Callback}. The callback may not be null
+     */
+    public final void filter(@Nullable final CharSequence query,
+                             @NonNull final Callback callback) {
+        Condition.INSTANCE.ensureNotNull(callback, "The callback may not be null");
+        cancel();
+
+        if (TextUtils.isEmpty(query)) {
+            callback.onFiltered(null);
+        } else {
+            final int queryGeneration = generation.get();
+            final String normalizedQuery = query.toString().toLowerCase(Locale.getDefault());
+            future = getExecutor().submit(new Runnable() {
+
+                @Override
+                public void run() {
+                    final int[] positions =
+                            matcher.match(normalizedQuery, new ItemMatcher.CancellationSignal() {
+
+                                @Override
+                                public boolean isCancelled() {
+                                    return ItemFilter.this.isCancelled(queryGeneration);
+                                }
+
+                            });
+
+                    if (positions != null) {
+                        handler.post(new Runnable() {
+
+                            @Override
+                            public void run() {
+                                if (!isCancelled(queryGeneration)) {
+                                    future = null;
+                                    callback.onFiltered(positions);
+                                }
+                            }
+
+                        });
+                    }
+                }
+
+            });
+        }
+    }
+
+    /**
+     * Cancels the query, which is currently processed, if any. Its results are discarded.
+     */
+    public final void cancel() {
+        generation.incrementAndGet();
+
+        if (future != null) {
+            future.cancel(true);
+            future = null;
+        }
+    }
+
+}
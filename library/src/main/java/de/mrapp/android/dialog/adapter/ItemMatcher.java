@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Allows to determine the positions of the list items, whose texts contain a specific query. If a
+ * query refines the most recent one, only the list items, which matched the most recent query, are
+ * taken into account. The class is not thread-safe and must only be used by a single thread.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class ItemMatcher {
+
+    /**
+     * Defines the interface, a class, which allows to determine, whether matching list items has
+     * been cancelled, must implement.
+     */
+    interface CancellationSignal {
+
+        /**
+         * Returns, whether matching list items has been cancelled, or not.
+         *
+         * @return True, if matching list items has been cancelled, false otherwise
+         */
+        boolean isCancelled();
+
+    }
+
+    /**
+     * The number of list items, which are processed between two checks, whether matching has been
+     * cancelled.
+     */
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    /**
+     * The texts of the list items, which are matched.
+     */
+    private final CharSequence[] items;
+
+    /**
+     * The lower case texts of the list items or null, if they have not been normalized yet.
+     */
+    private String[] normalizedItems;
+
+    /**
+     * The most recent query, which has been completed, or null, if no query has been completed
+     * yet.
+     */
+    private String lastQuery;
+
+    /**
+     * The positions of the list items, which matched the most recent query, which has been
+     * completed.
+     */
+    private int[] lastPositions;
+
+    /**
+     * Creates the lower case texts of the list items.
+     *
+     * @param signal
+     *         The signal, which allows to determine, whether matching has been cancelled, as an
+     *         instance of the type {@link CancellationSignal}. The signal may not be null
+     * @return An array, which contains the lower case texts of the list items, as a {@link String}
+     * array or null, if matching has been cancelled
+     */
+    @Nullable
+    private String[] normalizeItems(@NonNull final CancellationSignal signal) {
+        String[] result = new String[items.length];
+        Locale locale = Locale.getDefault();
+
+        for (int i = 0; i < items.length; i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && signal.isCancelled()) {
+                return null;
+            }
+
+            result[i] = items[i] != null ? items[i].toString().toLowerCase(locale) : "";
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new class, which allows to determine the positions of the list items, whose texts
+     * contain a specific query.
+     *
+     * @param items
+     *         An array, which contains the texts of the list items, which should be matched, as a
+     *         {@link CharSequence} array. The array may not be null
+     */
+    ItemMatcher(@NonNull final CharSequence[] items) {
+        this.items = items;
+        this.normalizedItems = null;
+        this.lastQuery = null;
+        this.lastPositions = null;
+    }
+
+    /**
+     * Determines the positions of the list items, whose texts contain a specific query.
+     *
+     * @param query
+     *         The lower case query as a {@link String}. The query may neither be null, nor empty
+     * @param signal
+     *         The signal, which allows to determine, whether matching has been cancelled, as an
+     *         instance of the type {@link CancellationSignal}. The signal may not be null
+     * @return An array, which contains the positions of the list items, whose texts contain the
+     * query, in ascending order, as an {@link Integer} array or null, if matching has been
+     * cancelled
+     */
+    @Nullable
+    int[] match(@NonNull final String query, @NonNull final CancellationSignal signal) {
+        if (normalizedItems == null) {
+            normalizedItems = normalizeItems(signal);
+
+            if (normalizedItems == null) {
+                return null;
+            }
+        }
+
+        int[] candidates = lastQuery != null && query.startsWith(lastQuery) ? lastPositions : null;
+        int candidateCount = candidates != null ? candidates.length : normalizedItems.length;
+        int[] positions = new int[candidateCount];
+        int count = 0;
+
+        for (int i = 0; i < candidateCount; i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && signal.isCancelled()) {
+                return null;
+            }
+
+            int position = candidates != null ? candidates[i] : i;
+
+            if (normalizedItems[position].contains(query)) {
+                positions[count++] = position;
+            }
+        }
+
+        positions = Arrays.copyOf(positions, count);
+        lastQuery = query;
+        lastPositions = positions;
+        return positions;
+    }
+
+}
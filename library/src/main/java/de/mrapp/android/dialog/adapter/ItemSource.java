@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which provides the texts of list items page by page, must
+ * implement. The texts of a page are only requested, when the corresponding list items are about
+ * to become visible.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public interface ItemSource {
+
+    /**
+     * Defines the interface, a class, which should be notified, when a page of list items has been
+     * loaded, must implement.
+     */
+    interface Callback {
+
+        /**
+         * The method, which must be invoked, when a page of list items has been loaded. It may be
+         * invoked on any thread.
+         *
+         * @param page  The index of the page, which has been loaded, as an {@link Integer} value
+         * @param items An array, which contains the texts of the list items, which belong to the
+         *              page, as a {@link CharSequence} array. The array may not be null
+         */
+        void onPageLoaded(int page, @NonNull CharSequence[] items);
+
+    }
+
+    /**
+     * Returns the total number of list items, which are provided by the source.
+     *
+     * @return The total number of list items as an {@link Integer} value. The number must be at
+     * least 0
+     */
+    int getItemCount();
+
+    /**
+     * Returns the number of list items, which belong to a single page.
+     *
+     * @return The number of list items, which belong to a single page, as an {@link Integer}
+     * value. The number must be at least 1
+     */
+    int getPageSize();
+
+    /**
+     * The method, which is invoked, when a specific page of list items should be loaded. The page
+     * may be loaded asynchronously. Once it has been loaded, the given callback must be notified.
+     * Each page is only requested once.
+     *
+     * @param page     The index of the page, which should be loaded, as an {@link Integer} value
+     * @param callback The callback, which must be notified, when the page has been loaded, as an
+     *                 instance of the type {@link Callback}. The callback may not be null
+     */
+    void loadPage(int page, @NonNull Callback callback);
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.BitSet;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.util.Condition;
+
+/**
+ * A loader, which loads the texts of list items from an {@link ItemSource} page by page, when the
+ * corresponding list items are about to become visible. List items, whose page has not been loaded
+ * yet, are represented by placeholders, whose text is null.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public class PagedItemLoader {
+
+    /**
+     * The default number of list items before and after the visible ones, whose pages are loaded
+     * in advance.
+     */
+    public static final int DEFAULT_PREFETCH_DISTANCE = 20;
+
+    /**
+     * The source, the list items are loaded from.
+     */
+    private final ItemSource source;
+
+    /**
+     * An array, which contains the texts of all list items. List items, whose page has not been
+     * loaded yet, are null.
+     */
+    private final CharSequence[] items;
+
+    /**
+     * The number of list items, which belong to a single page.
+     */
+    private final int pageSize;
+
+    /**
+     * A bit set, which contains the indices of all pages, which have been requested.
+     */
+    private final BitSet requestedPages;
+
+    /**
+     * The handler, which is used to apply loaded pages on the UI thread.
+     */
+    private final Handler handler;
+
+    /**
+     * The adapter, which is notified, when a page has been loaded.
+     */
+    private RecyclerView.Adapter<?> adapter;
+
+    /**
+     * The number of list items before and after the visible ones, whose pages are loaded in
+     * advance.
+     */
+    private int prefetchDistance;
+
+    /**
+     * Applies a page of list items, which has been loaded. This method must be called on the UI
+     * thread.
+     *
+     * @param page      The index of the page as an {@link Integer} value
+     * @param pageItems An array, which contains the texts of the list items, which belong to the
+     *                  page, as a {@link CharSequence} array. The array may not be null
+     */
+    private void applyPage(final int page, @NonNull final CharSequence[] pageItems) {
+        int start = page * pageSize;
+        int count = Math.min(Math.min(pageSize, items.length - start), pageItems.length);
+
+        if (count > 0) {
+            System.arraycopy(pageItems, 0, items, start, count);
+
+            if (adapter != null) {
+                adapter.notifyItemRangeChanged(start, count);
+            }
+        }
+    }
+
+    /**
+     * Creates a new loader, which loads the texts of list items from a specific source page by
+     * page.
+     *
+     * @param source The source, the list items should be loaded from, as an instance of the type
+     *               {@link ItemSource}. The source may not be null
+     */
+    public PagedItemLoader(@NonNull final ItemSource source) {
+        Condition.INSTANCE.ensureNotNull(source, "The item source may not be null");
+        Condition.INSTANCE.ensureAtLeast(source.getItemCount(), 0,
+                "The item count must be at least 0");
+        Condition.INSTANCE.ensureAtLeast(source.getPageSize(), 1,
+                "The page size must be at least 1");
+        this.source = source;
+        this.items = new CharSequence[source.getItemCount()];
+        this.pageSize = source.getPageSize();
+        this.requestedPages = new BitSet();
+        this.handler = new Handler(Looper.getMainLooper());
+        this.adapter = null;
+        this.prefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+    }
+
+    /**
+     * Returns the source, the list items are loaded from.
+     *
+     * @return The source, the list items are loaded from, as an instance of the type {@link
+     * ItemSource}. The source may not be null
+     */
+    @NonNull
+    public final ItemSource getSource() {
+        return source;
+    }
+
+    /**
+     * Returns an array, which contains the texts of all list items. The array is updated, whenever
+     * a page has been loaded.
+     *
+     * @return An array, which contains the texts of all list items, as a {@link CharSequence}
+     * array. The array may not be null. List items, whose page has not been loaded yet, are null
+     */
+    @NonNull
+    public final CharSequence[] getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the adapter, which should be notified, when a page has been loaded.
+     *
+     * @param adapter The adapter, which should be set, as an instance of the class
+     *                RecyclerView.Adapter or null, if no adapter should be notified
+     */
+    public final void setAdapter(@Nullable final RecyclerView.Adapter<?> adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Returns the number of list items before and after the visible ones, whose pages are loaded
+     * in advance.
+     *
+     * @return The number of list items before and after the visible ones, whose pages are loaded
+     * in advance, as an {@link Integer} value
+     */
+    public final int getPrefetchDistance() {
+        return prefetchDistance;
+    }
+
+    /**
+     * Sets the number of list items before and after the visible ones, whose pages should be
+     * loaded in advance.
+     *
+     * @param prefetchDistance The number of list items, which should be set, as an {@link Integer}
+     *                         value. The number must be at least 0
+     */
+    public final void setPrefetchDistance(final int prefetchDistance) {
+        Condition.INSTANCE.ensureAtLeast(prefetchDistance, 0,
+                "The prefetch distance must be at least 0");
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    /**
+     * Loads the pages, which contain the list items within a specific range, as well as the list
+     * items within the prefetch distance, if they have not been requested yet.
+     *
+     * @param firstPosition The position of the first visible list item as an {@link Integer}
+     *                      value
+     * @param lastPosition  The position of the last visible list item as an {@link Integer} value
+     */
+    public final void loadItems(final int firstPosition, final int lastPosition) {
+        if (items.length > 0) {
+            int start = Math.max(0, Math.min(firstPosition, lastPosition) - prefetchDistance);
+            int end = Math.min(items.length - 1,
+                    Math.max(firstPosition, lastPosition) + prefetchDistance);
+
+            for (int page = start / pageSize; page <= end / pageSize; page++) {
+                if (!requestedPages.get(page)) {
+                    requestedPages.set(page);
+                    source.loadPage(page, new ItemSource.Callback() {
+
+                        @Override
+                        public void onPageLoaded(final int page,
+                                                 @NonNull final CharSequence[] pageItems) {
+                            Condition.INSTANCE.ensureNotNull(pageItems,
+                                    "The array may not be null");
+
+                            if (Looper.myLooper() == Looper.getMainLooper()) {
+                                applyPage(page, pageItems);
+                            } else {
+                                handler.post(new Runnable() {
+
+                                    @Override
+                                    public void run() {
+                                        applyPage(page, pageItems);
+                                    }
+
+                                });
+                            }
+                        }
+
+                    });
+                }
+            }
+        }
+    }
+
+}
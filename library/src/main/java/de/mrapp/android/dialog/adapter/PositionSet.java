@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import java.util.BitSet;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A set, which contains the positions of list items, which have a specific state, such as being
+ * selected. The positions are stored as a bit set.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class PositionSet {
+
+    /**
+     * The bit set, which contains the positions.
+     */
+    private final BitSet positions;
+
+    /**
+     * Creates a new, empty set, which contains the positions of list items.
+     */
+    PositionSet() {
+        this.positions = new BitSet();
+    }
+
+    /**
+     * Returns, whether the set contains a specific position, or not.
+     *
+     * @param position
+     *         The position as an {@link Integer} value. The position must be at least 0
+     * @return True, if the set contains the given position, false otherwise
+     */
+    boolean contains(final int position) {
+        return positions.get(position);
+    }
+
+    /**
+     * Adds a specific position to the set or removes it.
+     *
+     * @param position
+     *         The position as an {@link Integer} value. The position must be at least 0
+     * @param contained
+     *         True, if the position should be added, false, if it should be removed
+     * @return True, if the set has been changed, false otherwise
+     */
+    boolean set(final int position, final boolean contained) {
+        if (positions.get(position) != contained) {
+            positions.set(position, contained);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds all positions within a specific range to the set or removes them.
+     *
+     * @param fromPosition
+     *         The first position as an {@link Integer} value. The position must be at least 0
+     * @param toPosition
+     *         The position after the last one as an {@link Integer} value. The position must be at
+     *         least <code>fromPosition</code>
+     * @param contained
+     *         True, if the positions should be added, false, if they should be removed
+     * @return An array, which contains the positions, which have been added or removed, in
+     * ascending order, as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    int[] set(final int fromPosition, final int toPosition, final boolean contained) {
+        BitSet changedPositions = positions.get(fromPosition, toPosition);
+
+        if (contained) {
+            changedPositions.flip(0, toPosition - fromPosition);
+        }
+
+        int[] result = new int[changedPositions.cardinality()];
+        int index = 0;
+
+        for (int i = changedPositions.nextSetBit(0); i != -1;
+             i = changedPositions.nextSetBit(i + 1)) {
+            result[index++] = fromPosition + i;
+        }
+
+        positions.set(fromPosition, toPosition, contained);
+        return result;
+    }
+
+    /**
+     * Adds all positions within a specific range, which are not contained by the set, and removes
+     * all positions within the range, which are contained by the set.
+     *
+     * @param fromPosition
+     *         The first position as an {@link Integer} value. The position must be at least 0
+     * @param toPosition
+     *         The position after the last one as an {@link Integer} value. The position must be at
+     *         least <code>fromPosition</code>
+     */
+    void invert(final int fromPosition, final int toPosition) {
+        positions.flip(fromPosition, toPosition);
+    }
+
+    /**
+     * Returns the number of positions, which are contained by the set.
+     *
+     * @return The number of positions, which are contained by the set, as an {@link Integer} value
+     */
+    int size() {
+        return positions.cardinality();
+    }
+
+    /**
+     * Returns the first position, which is contained by the set and located at or after a specific
+     * position.
+     *
+     * @param fromPosition
+     *         The position to start searching at as an {@link Integer} value. The position must be
+     *         at least 0
+     * @return The position as an {@link Integer} value or -1, if the set does not contain such a
+     * position
+     */
+    int next(final int fromPosition) {
+        return positions.nextSetBit(fromPosition);
+    }
+
+    /**
+     * Returns a bit set, which contains the positions, which are contained by the set. Modifying
+     * the bit set does not affect the set.
+     *
+     * @return The bit set, which contains the positions, as an instance of the class {@link
+     * BitSet}. The bit set may not be null
+     */
+    @NonNull
+    BitSet toBitSet() {
+        return (BitSet) positions.clone();
+    }
+
+    /**
+     * Removes all positions from the set.
+     */
+    void clear() {
+        positions.clear();
+    }
+
+}
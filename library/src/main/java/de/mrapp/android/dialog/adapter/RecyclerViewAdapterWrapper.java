@@ -14,7 +14,8 @@
 package de.mrapp.android.dialog.adapter;
 
 import android.content.Context;
-import android.os.Handler;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Checkable;
@@ -22,14 +23,17 @@ import android.widget.FrameLayout;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.model.ListDialog.OnItemEnabledListener;
 import de.mrapp.android.dialog.model.ListDialog.OnItemSelectedListener;
+import de.mrapp.android.dialog.model.ListDialog.OnItemsEnabledListener;
+import de.mrapp.android.dialog.model.ListDialog.OnItemsSelectedListener;
 import de.mrapp.android.util.ThemeUtil;
 import de.mrapp.util.Condition;
 
@@ -97,21 +101,33 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         /**
          * The position of the currently selected list item.
          */
-        private int checkedItem = -1;
+        private final SinglePosition checkedItem = new SinglePosition();
+
+        /**
+         * Unselects the currently selected list item, if any.
+         */
+        public final void clearCheckedItem() {
+            checkedItem.clear();
+        }
+
+        /**
+         * Returns the position of the currently selected list item.
+         *
+         * @return The position of the currently selected list item as an {@link Integer} value or
+         * -1, if no list item is selected
+         */
+        public final int getCheckedItem() {
+            return checkedItem.get();
+        }
 
         @Override
         public final boolean isItemChecked(final int position) {
-            return checkedItem == position;
+            return checkedItem.contains(position);
         }
 
         @Override
         public final boolean setItemChecked(final int position, final boolean checked) {
-            if (checked && checkedItem != position) {
-                checkedItem = position;
-                return true;
-            }
-
-            return false;
+            return checkedItem.set(position, checked);
         }
 
     }
@@ -124,7 +140,72 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         /**
          * A set, which contains the positions of all currently selected list items.
          */
-        private final Set<Integer> checkedItems = new HashSet<>();
+        private final PositionSet checkedItems = new PositionSet();
+
+        /**
+         * Sets, whether the list items within a specific range should be selected, or not.
+         *
+         * @param fromPosition
+         *         The position of the first list item, whose selection state should be changed, as
+         *         an {@link Integer} value. The position must be at least 0
+         * @param toPosition
+         *         The position after the last list item, whose selection state should be changed,
+         *         as an {@link Integer} value. The position must be at least
+         *         <code>fromPosition</code>
+         * @param checked
+         *         True, if the list items should be selected, false otherwise
+         * @return An array, which contains the positions of the list items, whose selection state
+         * has been changed, in ascending order, as an {@link Integer} array. The array may not be
+         * null
+         */
+        @NonNull
+        public final int[] setItemsChecked(final int fromPosition, final int toPosition,
+                                           final boolean checked) {
+            return checkedItems.set(fromPosition, toPosition, checked);
+        }
+
+        /**
+         * Inverts the selection state of the list items within a specific range.
+         *
+         * @param fromPosition The position of the first list item, whose selection state should be
+         *                     inverted, as an {@link Integer} value. The position must be at least 0
+         * @param toPosition   The position after the last list item, whose selection state should be
+         *                     inverted, as an {@link Integer} value. The position must be at least
+         *                     <code>fromPosition</code>
+         */
+        public final void invertItemsChecked(final int fromPosition, final int toPosition) {
+            checkedItems.invert(fromPosition, toPosition);
+        }
+
+        /**
+         * Unselects all list items.
+         */
+        public final void clearCheckedItems() {
+            checkedItems.clear();
+        }
+
+        /**
+         * Returns the number of list items, which are currently selected.
+         *
+         * @return The number of list items, which are currently selected, as an {@link Integer}
+         * value
+         */
+        public final int getCheckedItemCount() {
+            return checkedItems.size();
+        }
+
+        /**
+         * Returns the position of the first selected list item, which is located at or after a
+         * specific position.
+         *
+         * @param fromPosition The position to start searching at as an {@link Integer} value. The
+         *                     position must be at least 0
+         * @return The position of the selected list item as an {@link Integer} value or -1, if no
+         * such list item is selected
+         */
+        public final int nextCheckedItem(final int fromPosition) {
+            return checkedItems.next(fromPosition);
+        }
 
         @Override
         public final boolean isItemChecked(final int position) {
@@ -133,11 +214,7 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
 
         @Override
         public final boolean setItemChecked(final int position, final boolean checked) {
-            if (checked) {
-                return checkedItems.add(position);
-            } else {
-                return checkedItems.remove(position);
-            }
+            return checkedItems.set(position, checked);
         }
 
     }
@@ -172,6 +249,13 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
          */
         private final T wrappedViewHolder;
 
+        /**
+         * True, if the view of the view holder and all of its children have been enabled the last
+         * time the view holder has been bound, false, if they have been disabled, or null, if the
+         * view holder has not been bound yet.
+         */
+        private Boolean enabled;
+
         /**
          * Creates a new wrapper, which encapsulates a specific view holder.
          *
@@ -184,6 +268,7 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
             super(itemView);
             Condition.INSTANCE.ensureNotNull(wrappedViewHolder, "The view holder may not be null");
             this.wrappedViewHolder = wrappedViewHolder;
+            this.enabled = null;
         }
 
         /**
@@ -210,14 +295,32 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     private final ChoiceMode choiceMode;
 
     /**
-     * The handler, which is used to adapt the selection state of list items.
+     * The context, which is used by the adapter.
+     */
+    private final Context context;
+
+    /**
+     * The constant state of the drawable, which is used as the foreground of list items, or null,
+     * if the drawable has not been resolved yet or does not provide a constant state.
      */
-    private final Handler handler;
+    private Drawable.ConstantState itemForegroundState;
 
     /**
-     * A set, which contains the positions of all disabled items.
+     * True, if the foreground of list items should be applied to their views directly, if
+     * possible, instead of wrapping them in an additional layout, false otherwise.
      */
-    private Set<Integer> disabledItems;
+    private boolean itemViewsFlattened;
+
+    /**
+     * An array, which contains the positions of the encapsulated adapter's list items, which are
+     * currently shown, in ascending order, or null, if all list items are shown.
+     */
+    private int[] filteredPositions;
+
+    /**
+     * A bit set, which contains the positions of all disabled items.
+     */
+    private BitSet disabledItems;
 
     /**
      * The listener, which is notified, when a list item has been clicked.
@@ -235,46 +338,32 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     private OnItemEnabledListener itemEnabledListener;
 
     /**
-     * Creates a listener, which allows to select a list item when it has been clicked.
+     * Creates a listener, which allows to select a list item when it has been clicked. The
+     * position of the list item is resolved when the view has been clicked, which allows to reuse
+     * the listener, when the view holder is bound to a different position.
      *
-     * @param position The position of the list item as an {@link Integer} value
+     * @param holder The view holder, the listener corresponds to, as an instance of the class
+     *               {@link ViewHolderWrapper}. The view holder may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * View.OnClickListener}. The listener may not be null
      */
     @NonNull
-    private View.OnClickListener createItemClickListener(final int position) {
+    private View.OnClickListener createItemClickListener(
+            @NonNull final ViewHolderWrapper<VH> holder) {
         return new View.OnClickListener() {
 
             @Override
             public void onClick(View v) {
-                setItemChecked(position, !isItemChecked(position));
-
-                if (itemClickListener != null) {
-                    itemClickListener.onItemClick(RecyclerViewAdapterWrapper.this, position);
-                }
-            }
+                int adapterPosition = holder.getAdapterPosition();
 
-        };
-    }
-
-    /**
-     * Creates and returns a runnable, which allows to change the selection state of a specific
-     * {@link Checkable}.
-     *
-     * @param checkable The checkable, whose selection state should be changed, as an instance of the type
-     *                  {@link Checkable}. The checkable may not be null.
-     * @param checked   True, if the checkable should be selected, false otherwise
-     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
-     * The runnable may not be null
-     */
-    @NonNull
-    private Runnable createCheckableRunnable(@NonNull final Checkable checkable,
-                                             final boolean checked) {
-        return new Runnable() {
+                if (adapterPosition != RecyclerView.NO_POSITION) {
+                    int position = getUnfilteredPosition(adapterPosition);
+                    setItemChecked(position, !isItemChecked(position));
 
-            @Override
-            public void run() {
-                checkable.setChecked(checked);
+                    if (itemClickListener != null) {
+                        itemClickListener.onItemClick(RecyclerViewAdapterWrapper.this, position);
+                    }
+                }
             }
 
         };
@@ -294,7 +383,8 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
 
         if (enabled) {
             if (disabledItems != null) {
-                result = disabledItems.remove(position);
+                result = disabledItems.get(position);
+                disabledItems.clear(position);
 
                 if (disabledItems.isEmpty()) {
                     disabledItems = null;
@@ -302,15 +392,285 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
             }
         } else {
             if (disabledItems == null) {
-                disabledItems = new HashSet<>();
+                disabledItems = new BitSet();
             }
 
-            result = disabledItems.add(position);
+            result = !disabledItems.get(position);
+            disabledItems.set(position);
         }
 
         return result;
     }
 
+    /**
+     * Returns, whether the list item at a specific position is currently enabled, or not, without
+     * validating the position. This method does not allocate any objects and can therefore be used
+     * when binding view holders.
+     *
+     * @param position
+     *         The position of the list item, whose enable state should be returned, as an {@link
+     *         Integer} value
+     * @return True, if the list item is enabled, false otherwise
+     */
+    private boolean isItemEnabledInternally(final int position) {
+        return disabledItems == null || !disabledItems.get(position);
+    }
+
+    /**
+     * Notifies the adapter's observers about list items, whose state has been changed. Consecutive
+     * positions are coalesced into a single range.
+     *
+     * @param positions
+     *         The positions of the list items, which have been changed, in ascending order as an
+     *         {@link Integer} array. The array may not be null
+     * @param count
+     *         The number of positions in the given array, which should be taken into account, as
+     *         an {@link Integer} value
+     */
+    private void notifyItemRangesChanged(@NonNull final int[] positions, final int count) {
+        int start = -1;
+        int end = -1;
+
+        for (int i = 0; i < count; i++) {
+            int position = getFilteredPosition(positions[i]);
+
+            if (position != RecyclerView.NO_POSITION) {
+                if (position != end) {
+                    if (start != -1) {
+                        notifyItemRangeChanged(start, end - start);
+                    }
+
+                    start = position;
+                }
+
+                end = position + 1;
+            }
+        }
+
+        if (start != -1) {
+            notifyItemRangeChanged(start, end - start);
+        }
+    }
+
+    /**
+     * Returns the position of a list item of the encapsulated adapter, which is currently shown at
+     * a specific position.
+     *
+     * @param position The position at which the list item is shown as an {@link Integer} value
+     * @return The position of the list item within the encapsulated adapter as an {@link Integer}
+     * value
+     */
+    private int getUnfilteredPosition(final int position) {
+        return filteredPositions != null ? filteredPositions[position] : position;
+    }
+
+    /**
+     * Returns the position at which a specific list item of the encapsulated adapter is currently
+     * shown.
+     *
+     * @param position The position of the list item within the encapsulated adapter as an {@link
+     *                 Integer} value
+     * @return The position at which the list item is shown as an {@link Integer} value or
+     * <code>RecyclerView.NO_POSITION</code>, if the list item is currently not shown
+     */
+    private int getFilteredPosition(final int position) {
+        if (filteredPositions != null) {
+            int index = Arrays.binarySearch(filteredPositions, position);
+            return index >= 0 ? index : RecyclerView.NO_POSITION;
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns the position of the encapsulated adapter's list item, which corresponds to a specific
+     * index of an array, which contains the positions of the list items, which are shown.
+     *
+     * @param positions The array, which contains the positions of the list items, which are shown,
+     *                  as an {@link Integer} array or null, if all list items are shown
+     * @param index     The index as an {@link Integer} value
+     * @return The position of the list item as an {@link Integer} value
+     */
+    private static int getUnfilteredPosition(@Nullable final int[] positions, final int index) {
+        return positions != null ? positions[index] : index;
+    }
+
+    /**
+     * Notifies the listener, which has been registered to be notified, when list items have been
+     * selected or unselected, about list items, whose selection state has been changed. If the
+     * listener implements the interface {@link OnItemsSelectedListener}, it is notified only once.
+     *
+     * @param positions
+     *         The positions of the list items, whose selection state has been changed, in
+     *         ascending order as an {@link Integer} array. The array may not be null
+     * @param count
+     *         The number of positions in the given array, which should be taken into account, as
+     *         an {@link Integer} value
+     * @param checked
+     *         True, if the list items have been selected, false otherwise
+     */
+    private void notifyOnItemsSelectionStateChanged(@NonNull final int[] positions,
+                                                    final int count, final boolean checked) {
+        if (itemSelectedListener != null && count > 0) {
+            if (itemSelectedListener instanceof OnItemsSelectedListener) {
+                ((OnItemsSelectedListener) itemSelectedListener)
+                        .onItemsSelectionStateChanged(Arrays.copyOf(positions, count), checked);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    itemSelectedListener.onItemSelectionStateChanged(positions[i], checked);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies the listener, which has been registered to be notified, when list items have been
+     * enabled or disabled, about list items, whose enable state has been changed. If the listener
+     * implements the interface {@link OnItemsEnabledListener}, it is notified only once.
+     *
+     * @param positions
+     *         The positions of the list items, whose enable state has been changed, in ascending
+     *         order as an {@link Integer} array. The array may not be null
+     * @param count
+     *         The number of positions in the given array, which should be taken into account, as
+     *         an {@link Integer} value
+     * @param enabled
+     *         True, if the list items have been enabled, false otherwise
+     */
+    private void notifyOnItemsEnableStateChanged(@NonNull final int[] positions, final int count,
+                                                 final boolean enabled) {
+        if (itemEnabledListener != null && count > 0) {
+            if (itemEnabledListener instanceof OnItemsEnabledListener) {
+                ((OnItemsEnabledListener) itemEnabledListener)
+                        .onItemsEnableStateChanged(Arrays.copyOf(positions, count), enabled);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    itemEnabledListener.onItemEnableStateChanged(positions[i], enabled);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets, whether the list items at specific positions should be selected, or not, and notifies
+     * the adapter's observers, as well as the registered listener, about the changed list items.
+     * If the choice mode does not allow to select multiple list items, only the last position is
+     * taken into account.
+     *
+     * @param positions
+     *         The positions of the list items, whose selection state should be changed, as an
+     *         {@link Integer} array. The array may not be null
+     * @param checked
+     *         True, if the list items should be selected, false otherwise
+     */
+    private void setItemsCheckedInternally(@NonNull final int[] positions, final boolean checked) {
+        if (choiceMode instanceof MultipleChoiceMode) {
+            int[] changedPositions = new int[positions.length];
+            int count = 0;
+
+            for (int position : positions) {
+                if (choiceMode.setItemChecked(position, checked)) {
+                    changedPositions[count++] = position;
+                }
+            }
+
+            if (count > 0) {
+                Arrays.sort(changedPositions, 0, count);
+                notifyItemRangesChanged(changedPositions, count);
+                notifyOnItemsSelectionStateChanged(changedPositions, count, checked);
+            }
+        } else if (positions.length > 0) {
+            int position = positions[positions.length - 1];
+
+            if (choiceMode.setItemChecked(position, checked)) {
+                notifyDataSetChanged();
+                notifyOnItemsSelectionStateChanged(new int[]{position}, 1, checked);
+            }
+        }
+    }
+
+    /**
+     * Creates and returns the drawable, which should be used as the foreground of a list item. The
+     * drawable is resolved from the context's theme only once and newly created from its constant
+     * state afterwards.
+     *
+     * @return The drawable, which has been created, as an instance of the class {@link Drawable}
+     * or null, if no drawable is specified by the theme
+     */
+    @Nullable
+    private Drawable createItemForeground() {
+        if (itemForegroundState != null) {
+            return itemForegroundState.newDrawable(context.getResources());
+        }
+
+        Drawable drawable = ThemeUtil.getDrawable(context, R.attr.selectableItemBackground);
+        itemForegroundState = drawable != null ? drawable.getConstantState() : null;
+        return drawable;
+    }
+
+    /**
+     * Returns, whether a foreground can be applied to a specific view, or not.
+     *
+     * @param view The view, which should be checked, as an instance of the class {@link View}. The
+     *             view may not be null
+     * @return True, if a foreground can be applied to the given view, false otherwise
+     */
+    private boolean isForegroundSupported(@NonNull final View view) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.M || view instanceof FrameLayout;
+    }
+
+    /**
+     * Returns, whether the foreground of a list item can be applied to a specific view directly,
+     * instead of wrapping it in an additional layout. This requires the view to support
+     * foregrounds and to neither specify a foreground, nor a click listener, on its own, because
+     * the listener, which allows to select the list item, would replace an existing one.
+     *
+     * @param view
+     *         The view, which should be checked, as an instance of the class {@link View}. The
+     *         view may not be null
+     * @return True, if the foreground can be applied to the given view directly, false otherwise
+     */
+    private boolean isFlatteningSupported(@NonNull final View view) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1 &&
+                !view.hasOnClickListeners() && isForegroundSupported(view) &&
+                getForeground(view) == null;
+    }
+
+    /**
+     * Returns the foreground of a specific view.
+     *
+     * @param view The view, whose foreground should be returned, as an instance of the class
+     *             {@link View}. The view may not be null
+     * @return The foreground of the given view as an instance of the class {@link Drawable} or
+     * null, if the view does not have a foreground
+     */
+    @Nullable
+    private Drawable getForeground(@NonNull final View view) {
+        if (view instanceof FrameLayout) {
+            return ((FrameLayout) view).getForeground();
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            return view.getForeground();
+        }
+
+        return null;
+    }
+
+    /**
+     * Applies a specific foreground to a view.
+     *
+     * @param view       The view, the foreground should be applied to, as an instance of the class
+     *                   {@link View}. The view may not be null
+     * @param foreground The foreground, which should be applied, as an instance of the class
+     *                   {@link Drawable} or null, if no foreground should be applied
+     */
+    private void setForeground(@NonNull final View view, @Nullable final Drawable foreground) {
+        if (view instanceof FrameLayout) {
+            ((FrameLayout) view).setForeground(foreground);
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            view.setForeground(foreground);
+        }
+    }
+
     /**
      * Sets the enable state of a specific view and all of its children.
      *
@@ -347,9 +707,11 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
         Condition.INSTANCE.ensureNotNull(wrappedAdapter, "The wrapped adapter may not be null");
         Condition.INSTANCE.ensureNotNull(choiceMode, "The choice mode may not be null");
+        this.context = context;
         this.wrappedAdapter = wrappedAdapter;
         this.choiceMode = choiceMode;
-        this.handler = new Handler(context.getMainLooper());
+        this.itemForegroundState = null;
+        this.itemViewsFlattened = false;
         this.disabledItems = null;
     }
 
@@ -384,6 +746,182 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         this.itemEnabledListener = listener;
     }
 
+    /**
+     * Returns, whether the foreground of list items is applied to their views directly, if
+     * possible, instead of wrapping them in an additional layout.
+     *
+     * @return True, if the foreground of list items is applied to their views directly, false
+     * otherwise
+     */
+    public final boolean areItemViewsFlattened() {
+        return itemViewsFlattened;
+    }
+
+    /**
+     * Sets, whether the foreground of list items should be applied to their views directly, if
+     * possible, instead of wrapping them in an additional layout. This only affects view holders,
+     * which are created afterwards. The foreground is only applied directly, if the views of list
+     * items support foregrounds and specify neither a foreground, nor a click listener, on their
+     * own.
+     *
+     * @param flattened True, if the foreground of list items should be applied to their views
+     *                  directly, false otherwise
+     */
+    public final void setItemViewsFlattened(final boolean flattened) {
+        this.itemViewsFlattened = flattened;
+    }
+
+    /**
+     * Dispatches changes of the encapsulated adapter's list items, which have been calculated by
+     * using the class DiffUtil, to the adapter's observers. The selection and enable states of list
+     * items, which are still contained by the encapsulated adapter, are moved to their new
+     * positions, while those of removed list items are discarded. The registered listeners are not
+     * notified about the moved states.
+     *
+     * @param diffResult   The changes, which should be dispatched, as an instance of the class
+     *                     DiffUtil.DiffResult. The changes may not be null
+     * @param oldItemCount The number of list items before the changes have been applied to the
+     *                     encapsulated adapter as an {@link Integer} value. The number must be at
+     *                     least 0
+     */
+    public final void dispatchItemChanges(@NonNull final DiffUtil.DiffResult diffResult,
+                                          final int oldItemCount) {
+        Condition.INSTANCE.ensureNotNull(diffResult, "The diff result may not be null");
+        Condition.INSTANCE.ensureAtLeast(oldItemCount, 0, "The item count must be at least 0");
+        BitSet checkedItems = new BitSet();
+        BitSet disabledItems = null;
+
+        for (int i = 0; i < oldItemCount; i++) {
+            int position = diffResult.convertOldPositionToNew(i);
+
+            if (choiceMode.isItemChecked(i)) {
+                if (!(choiceMode instanceof MultipleChoiceMode ||
+                        choiceMode instanceof SingleChoiceMode)) {
+                    choiceMode.setItemChecked(i, false);
+                }
+
+                if (position != DiffUtil.DiffResult.NO_POSITION) {
+                    checkedItems.set(position);
+                }
+            }
+
+            if (position != DiffUtil.DiffResult.NO_POSITION && this.disabledItems != null &&
+                    this.disabledItems.get(i)) {
+                if (disabledItems == null) {
+                    disabledItems = new BitSet();
+                }
+
+                disabledItems.set(position);
+            }
+        }
+
+        if (choiceMode instanceof MultipleChoiceMode) {
+            ((MultipleChoiceMode) choiceMode).clearCheckedItems();
+        } else if (choiceMode instanceof SingleChoiceMode) {
+            ((SingleChoiceMode) choiceMode).clearCheckedItem();
+        }
+
+        for (int i = checkedItems.nextSetBit(0); i != -1; i = checkedItems.nextSetBit(i + 1)) {
+            choiceMode.setItemChecked(i, true);
+        }
+
+        this.disabledItems = disabledItems;
+
+        if (filteredPositions != null) {
+            int[] positions = new int[filteredPositions.length];
+            int count = 0;
+
+            for (int filteredPosition : filteredPositions) {
+                int position = diffResult.convertOldPositionToNew(filteredPosition);
+
+                if (position != DiffUtil.DiffResult.NO_POSITION) {
+                    positions[count++] = position;
+                }
+            }
+
+            Arrays.sort(positions, 0, count);
+            filteredPositions = Arrays.copyOf(positions, count);
+            notifyDataSetChanged();
+        } else {
+            diffResult.dispatchUpdatesTo(this);
+        }
+    }
+
+    /**
+     * Returns the positions of the encapsulated adapter's list items, which are currently shown.
+     *
+     * @return An array, which contains the positions of the list items, which are currently shown,
+     * in ascending order, as an {@link Integer} array or null, if all list items are shown
+     */
+    @Nullable
+    public final int[] getFilteredPositions() {
+        return filteredPositions != null ? filteredPositions.clone() : null;
+    }
+
+    /**
+     * Sets the positions of the encapsulated adapter's list items, which should be shown. The
+     * adapter's observers are notified about the list items, which have been hidden or revealed,
+     * in as few ranges as possible. The selection and enable states of list items are retained
+     * while they are hidden. All positions, which are passed to or from the adapter's other
+     * methods, except the ones of the class RecyclerView.Adapter, refer to the list items of the
+     * encapsulated adapter, regardless of which list items are shown.
+     *
+     * @param positions An array, which contains the positions of the list items, which should be
+     *                  shown, in ascending order, as an {@link Integer} array or null, if all list
+     *                  items should be shown
+     */
+    public final void setFilteredPositions(@Nullable final int[] positions) {
+        int[] oldPositions = filteredPositions;
+        int oldCount = getItemCount();
+        filteredPositions = positions != null ? positions.clone() : null;
+        int newCount = getItemCount();
+        int oldIndex = 0;
+        int newIndex = 0;
+
+        while (oldIndex < oldCount || newIndex < newCount) {
+            int oldPosition = oldIndex < oldCount ? getUnfilteredPosition(oldPositions, oldIndex) :
+                    Integer.MAX_VALUE;
+            int newPosition = newIndex < newCount ?
+                    getUnfilteredPosition(filteredPositions, newIndex) : Integer.MAX_VALUE;
+
+            if (oldPosition == newPosition) {
+                oldIndex++;
+                newIndex++;
+            } else if (oldPosition < newPosition) {
+                int count = 1;
+                oldIndex++;
+
+                while (oldIndex < oldCount &&
+                        getUnfilteredPosition(oldPositions, oldIndex) < newPosition) {
+                    count++;
+                    oldIndex++;
+                }
+
+                notifyItemRangeRemoved(newIndex, count);
+            } else {
+                int start = newIndex;
+                newIndex++;
+
+                while (newIndex < newCount &&
+                        getUnfilteredPosition(filteredPositions, newIndex) < oldPosition) {
+                    newIndex++;
+                }
+
+                notifyItemRangeInserted(start, newIndex - start);
+            }
+        }
+    }
+
+    /**
+     * Returns the total number of list items of the encapsulated adapter, regardless of which list
+     * items are currently shown.
+     *
+     * @return The total number of list items as an {@link Integer} value
+     */
+    public final int getUnfilteredItemCount() {
+        return wrappedAdapter.getItemCount();
+    }
+
     /**
      * Returns the choice mode, which is used by the adapter.
      *
@@ -416,8 +954,9 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     public final boolean isItemChecked(final int position) {
         Condition.INSTANCE.ensureAtLeast(position, 0, "The position must be at least 0",
                 IndexOutOfBoundsException.class);
-        Condition.INSTANCE.ensureSmaller(position, getItemCount(), "The position must be less than "
-                + getItemCount(), IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureSmaller(position, getUnfilteredItemCount(),
+                "The position must be less than " + getUnfilteredItemCount(),
+                IndexOutOfBoundsException.class);
         return choiceMode.isItemChecked(position);
     }
 
@@ -431,8 +970,9 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     public final void setItemChecked(final int position, final boolean checked) {
         Condition.INSTANCE.ensureAtLeast(position, 0, "The position must be at least 0",
                 IndexOutOfBoundsException.class);
-        Condition.INSTANCE.ensureSmaller(position, getItemCount(), "The position must be less than "
-                + getItemCount(), IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureSmaller(position, getUnfilteredItemCount(),
+                "The position must be less than " + getUnfilteredItemCount(),
+                IndexOutOfBoundsException.class);
 
         if (choiceMode.setItemChecked(position, checked)) {
             notifyDataSetChanged();
@@ -443,6 +983,162 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         }
     }
 
+    /**
+     * Sets, whether the list items at specific positions should be selected, or not. The adapter's
+     * observers are notified about the changed list items in as few ranges as possible and the
+     * registered listener is notified only once, if it implements the interface {@link
+     * OnItemsSelectedListener}. If the choice mode does not allow to select multiple list items,
+     * only the last position is taken into account.
+     *
+     * @param positions
+     *         The positions of the list items, whose selection state should be changed, as an
+     *         {@link Integer} array. The array may not be null
+     * @param checked
+     *         True, if the list items should be selected, false otherwise
+     */
+    public final void setItemsChecked(@NonNull final int[] positions, final boolean checked) {
+        Condition.INSTANCE.ensureNotNull(positions, "The array may not be null");
+
+        for (int position : positions) {
+            Condition.INSTANCE.ensureAtLeast(position, 0, "The position must be at least 0",
+                    IndexOutOfBoundsException.class);
+            Condition.INSTANCE.ensureSmaller(position, getUnfilteredItemCount(),
+                    "The position must be less than " + getUnfilteredItemCount(),
+                    IndexOutOfBoundsException.class);
+        }
+
+        setItemsCheckedInternally(positions, checked);
+    }
+
+    /**
+     * Sets, whether all list items should be selected, or not. The adapter's observers are notified
+     * about the changed list items in as few ranges as possible and the registered listener is
+     * notified only once, if it implements the interface {@link OnItemsSelectedListener}. If the
+     * choice mode does not allow to select multiple list items, only the last list item is taken
+     * into account.
+     *
+     * @param checked
+     *         True, if all list items should be selected, false otherwise
+     */
+    public final void setAllItemsChecked(final boolean checked) {
+        int itemCount = getUnfilteredItemCount();
+
+        if (choiceMode instanceof MultipleChoiceMode) {
+            int[] changedPositions =
+                    ((MultipleChoiceMode) choiceMode).setItemsChecked(0, itemCount, checked);
+
+            if (changedPositions.length > 0) {
+                notifyItemRangesChanged(changedPositions, changedPositions.length);
+                notifyOnItemsSelectionStateChanged(changedPositions, changedPositions.length,
+                        checked);
+            }
+        } else if (itemCount > 0) {
+            setItemsCheckedInternally(new int[]{itemCount - 1}, checked);
+        }
+    }
+
+    /**
+     * Returns a bit set, which contains the positions of all currently selected list items. In
+     * contrast to the method {@link #isItemChecked(int)}, the list items are not processed one by
+     * one.
+     *
+     * @return A bit set, which contains the positions of all currently selected list items, as an
+     * instance of the class {@link BitSet}. Modifying the bit set does not affect the adapter. The
+     * bit set may not be null
+     */
+    @NonNull
+    public final BitSet getCheckedItems() {
+        int itemCount = getUnfilteredItemCount();
+        BitSet result;
+
+        if (choiceMode instanceof MultipleChoiceMode) {
+            result = ((MultipleChoiceMode) choiceMode).checkedItems.toBitSet();
+        } else {
+            result = new BitSet();
+
+            if (choiceMode instanceof SingleChoiceMode) {
+                int checkedItem = ((SingleChoiceMode) choiceMode).getCheckedItem();
+
+                if (checkedItem != -1) {
+                    result.set(checkedItem);
+                }
+            }
+        }
+
+        result.clear(itemCount, Math.max(itemCount, result.length()));
+        return result;
+    }
+
+    /**
+     * Returns a bit set, which contains the positions of all currently enabled list items. In
+     * contrast to the method {@link #isItemEnabled(int)}, the list items are not processed one by
+     * one.
+     *
+     * @return A bit set, which contains the positions of all currently enabled list items, as an
+     * instance of the class {@link BitSet}. Modifying the bit set does not affect the adapter. The
+     * bit set may not be null
+     */
+    @NonNull
+    public final BitSet getEnabledItems() {
+        int itemCount = getUnfilteredItemCount();
+        BitSet result = disabledItems != null ? (BitSet) disabledItems.clone() : new BitSet();
+        result.flip(0, itemCount);
+        result.clear(itemCount, Math.max(itemCount, result.length()));
+        return result;
+    }
+
+    /**
+     * Inverts the selection state of all list items. The adapter's observers are notified about
+     * the changed list items and the registered listener is notified once about the selected and
+     * once about the unselected list items, if it implements the interface {@link
+     * OnItemsSelectedListener}. If the choice mode does not allow to select multiple list items,
+     * the selection state of the list items is not changed.
+     */
+    public final void invertAllItemsChecked() {
+        if (choiceMode instanceof MultipleChoiceMode) {
+            MultipleChoiceMode multipleChoiceMode = (MultipleChoiceMode) choiceMode;
+            int itemCount = getUnfilteredItemCount();
+            int[] uncheckedPositions = new int[multipleChoiceMode.getCheckedItemCount()];
+            int uncheckedCount = 0;
+            int[] checkedPositions = new int[itemCount];
+            int checkedCount = 0;
+            int nextCheckedPosition = multipleChoiceMode.nextCheckedItem(0);
+
+            for (int i = 0; i < itemCount; i++) {
+                if (i == nextCheckedPosition) {
+                    uncheckedPositions[uncheckedCount++] = i;
+                    nextCheckedPosition = multipleChoiceMode.nextCheckedItem(i + 1);
+                } else {
+                    checkedPositions[checkedCount++] = i;
+                }
+            }
+
+            multipleChoiceMode.invertItemsChecked(0, itemCount);
+
+            if (getItemCount() > 0) {
+                notifyItemRangeChanged(0, getItemCount());
+            }
+
+            notifyOnItemsSelectionStateChanged(uncheckedPositions, uncheckedCount, false);
+            notifyOnItemsSelectionStateChanged(checkedPositions, checkedCount, true);
+        }
+    }
+
+    /**
+     * Returns the number of list items, which are currently selected.
+     *
+     * @return The number of list items, which are currently selected, as an {@link Integer} value
+     */
+    public final int getCheckedItemCount() {
+        if (choiceMode instanceof MultipleChoiceMode) {
+            return ((MultipleChoiceMode) choiceMode).getCheckedItemCount();
+        } else if (choiceMode instanceof SingleChoiceMode) {
+            return ((SingleChoiceMode) choiceMode).getCheckedItem() != -1 ? 1 : 0;
+        }
+
+        return 0;
+    }
+
     /**
      * Returns, whether the list item at a specific position is currently enabled, or not.
      *
@@ -453,9 +1149,10 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     public final boolean isItemEnabled(final int position) {
         Condition.INSTANCE.ensureAtLeast(position, 0, "The position must be at least 0",
                 IndexOutOfBoundsException.class);
-        Condition.INSTANCE.ensureSmaller(position, getItemCount(), "The position must be less than "
-                + getItemCount(), IndexOutOfBoundsException.class);
-        return disabledItems == null || !disabledItems.contains(position);
+        Condition.INSTANCE.ensureSmaller(position, getUnfilteredItemCount(),
+                "The position must be less than " + getUnfilteredItemCount(),
+                IndexOutOfBoundsException.class);
+        return isItemEnabledInternally(position);
     }
 
     /**
@@ -468,8 +1165,9 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     public final void setItemEnabled(final int position, final boolean enabled) {
         Condition.INSTANCE.ensureAtLeast(position, 0, "The position must be at least 0",
                 IndexOutOfBoundsException.class);
-        Condition.INSTANCE.ensureSmaller(position, getItemCount(), "The position must be less than "
-                + getItemCount(), IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureSmaller(position, getUnfilteredItemCount(),
+                "The position must be less than " + getUnfilteredItemCount(),
+                IndexOutOfBoundsException.class);
         if (setItemEnabledInternally(position, enabled)) {
             notifyDataSetChanged();
 
@@ -479,19 +1177,59 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
         }
     }
 
+    /**
+     * Sets, whether the list items within a specific range should be enabled, or not. The adapter's
+     * observers are notified about the changed list items in as few ranges as possible and the
+     * registered listener is notified only once, if it implements the interface {@link
+     * OnItemsEnabledListener}.
+     *
+     * @param fromPosition
+     *         The position of the first list item, whose enable state should be changed, as an
+     *         {@link Integer} value
+     * @param toPosition
+     *         The position after the last list item, whose enable state should be changed, as an
+     *         {@link Integer} value
+     * @param enabled
+     *         True, if the list items should be enabled, false otherwise
+     */
+    public final void setItemsEnabled(final int fromPosition, final int toPosition,
+                                      final boolean enabled) {
+        Condition.INSTANCE.ensureAtLeast(fromPosition, 0, "The position must be at least 0",
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtLeast(toPosition, fromPosition,
+                "The position must be at least " + fromPosition, IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtMaximum(toPosition, getUnfilteredItemCount(),
+                "The position must be at maximum " + getUnfilteredItemCount(),
+                IndexOutOfBoundsException.class);
+        int[] changedPositions = new int[toPosition - fromPosition];
+        int count = 0;
+
+        for (int i = fromPosition; i < toPosition; i++) {
+            if (setItemEnabledInternally(i, enabled)) {
+                changedPositions[count++] = i;
+            }
+        }
+
+        if (count > 0) {
+            notifyItemRangesChanged(changedPositions, count);
+            notifyOnItemsEnableStateChanged(changedPositions, count, enabled);
+        }
+    }
+
     @Override
     public final int getItemCount() {
-        return wrappedAdapter.getItemCount();
+        return filteredPositions != null ? filteredPositions.length :
+                wrappedAdapter.getItemCount();
     }
 
     @Override
     public final long getItemId(final int position) {
-        return wrappedAdapter.getItemId(position);
+        return wrappedAdapter.getItemId(getUnfilteredPosition(position));
     }
 
     @Override
     public final int getItemViewType(final int position) {
-        return wrappedAdapter.getItemViewType(position);
+        return wrappedAdapter.getItemViewType(getUnfilteredPosition(position));
     }
 
     @NonNull
@@ -499,28 +1237,45 @@ public class RecyclerViewAdapterWrapper<VH extends RecyclerView.ViewHolder>
     public final ViewHolderWrapper<VH> onCreateViewHolder(@NonNull final ViewGroup parent,
                                                           final int viewType) {
         VH viewHolder = wrappedAdapter.createViewHolder(parent, viewType);
-        Context context = parent.getContext();
-        FrameLayout frameLayout = new FrameLayout(context);
-        frameLayout.setForeground(ThemeUtil.getDrawable(context, R.attr.selectableItemBackground));
-        frameLayout.addView(viewHolder.itemView);
-        frameLayout.setLayoutParams(
-                new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT,
-                        FrameLayout.LayoutParams.WRAP_CONTENT));
-        return new ViewHolderWrapper<>(frameLayout, viewHolder);
+        View itemView = viewHolder.itemView;
+        View view;
+
+        if (itemViewsFlattened && isFlatteningSupported(itemView)) {
+            setForeground(itemView, createItemForeground());
+            view = itemView;
+        } else {
+            FrameLayout frameLayout = new FrameLayout(parent.getContext());
+            frameLayout.setForeground(createItemForeground());
+            frameLayout.addView(itemView);
+            frameLayout.setLayoutParams(
+                    new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT,
+                            FrameLayout.LayoutParams.WRAP_CONTENT));
+            view = frameLayout;
+        }
+
+        ViewHolderWrapper<VH> holder = new ViewHolderWrapper<>(view, viewHolder);
+        view.setOnClickListener(createItemClickListener(holder));
+        return holder;
     }
 
     @Override
     public final void onBindViewHolder(@NonNull final ViewHolderWrapper<VH> holder,
-                                       final int position) {
+                                       final int adapterPosition) {
+        int position = getUnfilteredPosition(adapterPosition);
         final VH wrappedViewHolder = holder.getWrappedViewHolder();
         wrappedAdapter.onBindViewHolder(wrappedViewHolder, position);
         View view = holder.itemView;
-        view.setOnClickListener(createItemClickListener(position));
-        setViewEnabled(view, isItemEnabled(position));
+        boolean enabled = isItemEnabledInternally(position);
+
+        if (holder.enabled == null || holder.enabled != enabled) {
+            setViewEnabled(view, enabled);
+            holder.enabled = enabled;
+        }
+
         View wrappedView = wrappedViewHolder.itemView;
 
         if (wrappedView instanceof Checkable) {
-            handler.post(createCheckableRunnable((Checkable) wrappedView, isItemChecked(position)));
+            ((Checkable) wrappedView).setChecked(choiceMode.isItemChecked(position));
         }
     }
 
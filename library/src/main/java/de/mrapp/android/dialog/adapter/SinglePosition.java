@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+/**
+ * Contains the position of a single list item, which has a specific state, such as being selected.
+ * At most one position is contained at once.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class SinglePosition {
+
+    /**
+     * The position, which is contained, or -1, if no position is contained.
+     */
+    private int position = -1;
+
+    /**
+     * Returns the position, which is contained.
+     *
+     * @return The position, which is contained, as an {@link Integer} value or -1, if no position
+     * is contained
+     */
+    int get() {
+        return position;
+    }
+
+    /**
+     * Returns, whether a specific position is contained, or not.
+     *
+     * @param position
+     *         The position as an {@link Integer} value. The position must be at least 0
+     * @return True, if the given position is contained, false otherwise
+     */
+    boolean contains(final int position) {
+        return this.position == position;
+    }
+
+    /**
+     * Replaces the position, which is contained, with a specific position. A position cannot be
+     * removed by using this method, as it is replaced when another position is added.
+     *
+     * @param position
+     *         The position as an {@link Integer} value. The position must be at least 0
+     * @param contained
+     *         True, if the position should be added, false otherwise
+     * @return True, if the contained position has been changed, false otherwise
+     */
+    boolean set(final int position, final boolean contained) {
+        if (contained && this.position != position) {
+            this.position = position;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the position, which is contained, if any.
+     */
+    void clear() {
+        position = -1;
+    }
+
+}
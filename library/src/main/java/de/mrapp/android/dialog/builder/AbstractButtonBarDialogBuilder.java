@@ -16,7 +16,6 @@ package de.mrapp.android.dialog.builder;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.graphics.Typeface;
 import android.view.View;
 
@@ -53,9 +52,9 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
      *         Integer} value
      */
     private void obtainButtonTextColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogButtonTextColor});
-        ColorStateList colorStateList = typedArray.getColorStateList(0);
+        StyledAttributes attributes = getStyledAttributes();
+        ColorStateList colorStateList =
+                attributes.getColorStateList(R.attr.materialDialogButtonTextColor);
 
         if (colorStateList != null) {
             setButtonTextColor(colorStateList);
@@ -71,9 +70,9 @@ public abstract class AbstractButtonBarDialogBuilder<DialogType extends ButtonBa
      *         Integer} value
      */
     private void obtainShowButtonBarDivider(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowButtonBarDivider});
-        showButtonBarDivider(typedArray.getBoolean(0, false));
+        StyledAttributes attributes = getStyledAttributes();
+        showButtonBarDivider(attributes.getBoolean(R.attr.materialDialogShowButtonBarDivider,
+                false));
     }
 
     /**
@@ -15,7 +15,6 @@ package de.mrapp.android.dialog.builder;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
 import androidx.annotation.CallSuper;
@@ -55,9 +54,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainShowHeader(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowHeader});
-        showHeader(typedArray.getBoolean(0, false));
+        StyledAttributes attributes = getStyledAttributes();
+        showHeader(attributes.getBoolean(R.attr.materialDialogShowHeader, false));
     }
 
     /**
@@ -68,11 +66,11 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderHeight});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultHeight =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_header_height);
-        setHeaderHeight(typedArray.getDimensionPixelSize(0, defaultHeight));
+        setHeaderHeight(attributes.getDimensionPixelSize(R.attr.materialDialogHeaderHeight,
+                defaultHeight));
     }
 
     /**
@@ -83,9 +81,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        StyledAttributes attributes = getStyledAttributes();
+        int resourceId = attributes.getResourceId(R.attr.materialDialogHeaderBackground, 0);
 
         if (resourceId != 0) {
             setHeaderBackground(resourceId);
@@ -103,9 +100,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         value
      */
     private void obtainHeaderIcon(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderIcon});
-        int resourceId = typedArray.getResourceId(0, 0);
+        StyledAttributes attributes = getStyledAttributes();
+        int resourceId = attributes.getResourceId(R.attr.materialDialogHeaderIcon, 0);
 
         if (resourceId != 0) {
             setHeaderIcon(resourceId);
@@ -121,9 +117,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         {@link Integer} value
      */
     private void obtainHeaderIconTintList(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderIconTint});
-        setHeaderIconTintList(typedArray.getColorStateList(0));
+        StyledAttributes attributes = getStyledAttributes();
+        setHeaderIconTintList(attributes.getColorStateList(R.attr.materialDialogHeaderIconTint));
     }
 
     /**
@@ -134,10 +129,10 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainHeaderDividerColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogHeaderDividerColor});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultColor = ContextCompat.getColor(getContext(), R.color.header_divider_color);
-        setHeaderDividerColor(typedArray.getColor(0, defaultColor));
+        setHeaderDividerColor(attributes.getColor(R.attr.materialDialogHeaderDividerColor,
+                defaultColor));
     }
 
     /**
@@ -149,9 +144,8 @@ public abstract class AbstractHeaderDialogBuilder<DialogType extends HeaderDialo
      *         Integer} value
      */
     private void obtainShowHeaderDivider(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowHeaderDivider});
-        showHeaderDivider(typedArray.getBoolean(0, true));
+        StyledAttributes attributes = getStyledAttributes();
+        showHeaderDivider(attributes.getBoolean(R.attr.materialDialogShowHeaderDivider, true));
     }
 
     /**
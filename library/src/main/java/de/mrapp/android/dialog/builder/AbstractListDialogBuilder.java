@@ -16,7 +16,6 @@ package de.mrapp.android.dialog.builder;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.ColorStateList;
-import android.content.res.TypedArray;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
 import android.widget.ListAdapter;
@@ -29,6 +28,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.StyleRes;
 import androidx.recyclerview.widget.RecyclerView;
 import de.mrapp.android.dialog.R;
+import de.mrapp.android.dialog.adapter.ItemSource;
 import de.mrapp.android.dialog.model.ListDialog;
 import de.mrapp.android.util.ThemeUtil;
 
@@ -55,9 +55,9 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
      *         Integer} value
      */
     private void obtainItemColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogItemColor});
-        ColorStateList colorStateList = typedArray.getColorStateList(0);
+        StyledAttributes attributes = getStyledAttributes();
+        ColorStateList colorStateList =
+                attributes.getColorStateList(R.attr.materialDialogItemColor);
 
         if (colorStateList == null) {
             colorStateList = ThemeUtil.getColorStateList(getContext(), themeResourceId,
@@ -183,6 +183,52 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
         return self();
     }
 
+    /**
+     * Sets, whether the foreground of the list items of the dialog, which is created by the
+     * builder, should be applied to their views directly, if possible, instead of wrapping them in
+     * an additional layout.
+     *
+     * @param flattened
+     *         True, if the foreground of the list items should be applied to their views directly,
+     *         false otherwise
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setItemViewsFlattened(final boolean flattened) {
+        getProduct().setItemViewsFlattened(flattened);
+        return self();
+    }
+
+    /**
+     * Sets, whether a field, which allows to filter the list items of the dialog, which is created
+     * by the builder, should be shown, or not.
+     *
+     * @param show
+     *         True, if the field, which allows to filter the list items, should be shown, false
+     *         otherwise
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType showFilterField(final boolean show) {
+        getProduct().showFilterField(show);
+        return self();
+    }
+
+    /**
+     * Sets the query, which should be used to filter the list items of the dialog, which is
+     * created by the builder.
+     *
+     * @param query
+     *         The query, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if all list items should be shown
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setFilterQuery(@Nullable final CharSequence query) {
+        getProduct().setFilterQuery(query);
+        return self();
+    }
+
     /**
      * Sets, whether the list item at a specific position of the dialog, which is created by the
      * builder, should be checked, or not.
@@ -656,6 +702,124 @@ public abstract class AbstractListDialogBuilder<DialogType extends ListDialog, B
         return self();
     }
 
+    /**
+     * Sets the item source, which provides the items, which should be shown by the dialog, which
+     * is created by the builder. The items are loaded page by page, when they are about to become
+     * visible.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Therefore this method must be called again after
+     * configuration changes, e.g when the orientation of the device has changed, in order to show
+     * the items again.
+     *
+     * @param source
+     *         The item source, which should be set, as an instance of the type {@link ItemSource}.
+     *         The item source may not be null
+     * @param listener
+     *         The listener, which should be notified, when an item is clicked, as an instance of
+     *         the type {@link DialogInterface.OnClickListener} or null, if no listener should be
+     *         notified
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setItemSource(@NonNull final ItemSource source,
+                                           @Nullable final DialogInterface.OnClickListener listener) {
+        getProduct().setItemSource(source, listener);
+        return self();
+    }
+
+    /**
+     * Sets the item source, which provides the selectable items, which should be shown by the
+     * dialog, which is created by the builder. Only one of the items can be selected at once.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Therefore this method must be called again after
+     * configuration changes, e.g when the orientation of the device has changed, in order to show
+     * the items again.
+     *
+     * @param source
+     *         The item source, which should be set, as an instance of the type {@link ItemSource}.
+     *         The item source may not be null
+     * @param checkedItem
+     *         The index of the item, which should be selected by default, as an {@link Integer}
+     *         value or -1, if no item should be selected by default
+     * @param listener
+     *         The listener, which should be notified, when an item is clicked, as an instance of
+     *         the type {@link DialogInterface.OnClickListener} or null, if no listener should be
+     *         notified
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setSingleChoiceItemSource(@NonNull final ItemSource source,
+                                                       final int checkedItem,
+                                                       @Nullable final DialogInterface.OnClickListener listener) {
+        getProduct().setSingleChoiceItemSource(source, checkedItem, listener);
+        return self();
+    }
+
+    /**
+     * Sets the item source, which provides the selectable items, which should be shown by the
+     * dialog, which is created by the builder. Multiple items can be selected at once.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Therefore this method must be called again after
+     * configuration changes, e.g when the orientation of the device has changed, in order to show
+     * the items again.
+     *
+     * @param source
+     *         The item source, which should be set, as an instance of the type {@link ItemSource}.
+     *         The item source may not be null
+     * @param checkedItems
+     *         An array, which contains, whether the items, which correspond to the corresponding
+     *         indices, should be selected by default, or not, as a {@link Boolean} array or null,
+     *         if no items should be selected by default
+     * @param listener
+     *         The listener, which should be notified, when an item is clicked, as an instance of
+     *         the type {@link DialogInterface.OnMultiChoiceClickListener} or null, if no listener
+     *         should be notified
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setMultiChoiceItemSource(@NonNull final ItemSource source,
+                                                      @Nullable final boolean[] checkedItems,
+                                                      @Nullable final DialogInterface.OnMultiChoiceClickListener listener) {
+        getProduct().setMultiChoiceItemSource(source, checkedItems, listener);
+        return self();
+    }
+
+    /**
+     * Sets, whether the texts of large numbers of items of the dialog, which is created by the
+     * builder, should be retained in memory across configuration changes instead of being written
+     * to the saved instance state, or not. The items are lost, if the process is terminated while
+     * the dialog is in the background.
+     *
+     * @param retainedInMemory
+     *         True, if the texts of large numbers of items should be retained in memory, false
+     *         otherwise
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setItemsRetainedInMemory(final boolean retainedInMemory) {
+        getProduct().setItemsRetainedInMemory(retainedInMemory);
+        return self();
+    }
+
+    /**
+     * Sets the number of items before and after the visible ones, which should be loaded in
+     * advance, if the items of the dialog, which is created by the builder, are provided by an
+     * item source.
+     *
+     * @param prefetchDistance
+     *         The number of items, which should be loaded in advance, as an {@link Integer} value.
+     *         The number must be at least 0
+     * @return The builder, the method has been called upon, as an instance of the generic type
+     * BuilderType
+     */
+    public final BuilderType setItemPrefetchDistance(final int prefetchDistance) {
+        getProduct().setItemPrefetchDistance(prefetchDistance);
+        return self();
+    }
+
     /**
      * Sets the listener, which should be notified, when an item, which is shown by the dialog,
      * which is created by the builder, is selected.
@@ -17,7 +17,6 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.content.res.ColorStateList;
 import android.content.res.Resources;
-import android.content.res.TypedArray;
 import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
@@ -40,6 +39,7 @@ import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.model.Dialog;
 import de.mrapp.android.dialog.model.MaterialDialog;
 import de.mrapp.android.util.ThemeUtil;
+import de.mrapp.util.Condition;
 
 /**
  * An abstract base class for all builders, which allow to create and show dialogs, which are
@@ -60,6 +60,12 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      */
     private int themeResourceId;
 
+    /**
+     * The values of the theme attributes, which are obtained by the builders, or null, if the
+     * attributes are not currently obtained.
+     */
+    private StyledAttributes styledAttributes;
+
     /**
      * Initializes the builder.
      *
@@ -77,9 +83,16 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
             themeId = themeId != 0 ? themeId : R.style.MaterialDialog_Light;
         }
 
+        Resources.Theme baseTheme = getContext().getTheme();
         setContext(new ContextThemeWrapper(getContext(), themeId));
         this.themeResourceId = themeId;
-        obtainStyledAttributes(themeId);
+        styledAttributes = StyledAttributes.obtain(getContext(), baseTheme, themeId);
+
+        try {
+            obtainStyledAttributes(themeId);
+        } finally {
+            styledAttributes = null;
+        }
     }
 
     /**
@@ -91,9 +104,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainFullscreen(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogFullscreen});
-        setFullscreen(typedArray.getBoolean(0, false));
+        StyledAttributes attributes = getStyledAttributes();
+        setFullscreen(attributes.getBoolean(R.attr.materialDialogFullscreen, false));
     }
 
     /**
@@ -104,9 +116,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainGravity(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogGravity});
-        setGravity(typedArray.getInteger(0, Dialog.Gravity.CENTER));
+        StyledAttributes attributes = getStyledAttributes();
+        setGravity(attributes.getInteger(R.attr.materialDialogGravity, Dialog.Gravity.CENTER));
     }
 
     /**
@@ -117,14 +128,13 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainWidth(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogWidth});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultValue = getContext().getResources().getDimensionPixelSize(R.dimen.dialog_width);
 
         try {
-            setWidth(typedArray.getDimensionPixelSize(0, defaultValue));
+            setWidth(attributes.getDimensionPixelSize(R.attr.materialDialogWidth, defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
-            setWidth(typedArray.getInteger(0, defaultValue));
+            setWidth(attributes.getInteger(R.attr.materialDialogWidth, defaultValue));
         }
     }
 
@@ -136,14 +146,13 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogHeight});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultValue = Dialog.WRAP_CONTENT;
 
         try {
-            setHeight(typedArray.getDimensionPixelSize(0, defaultValue));
+            setHeight(attributes.getDimensionPixelSize(R.attr.materialDialogHeight, defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
-            setHeight(typedArray.getInteger(0, defaultValue));
+            setHeight(attributes.getInteger(R.attr.materialDialogHeight, defaultValue));
         }
     }
 
@@ -155,8 +164,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMaxWidth(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogMaxWidth});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultValue;
 
         try {
@@ -167,7 +175,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         }
 
         try {
-            setMaxWidth(typedArray.getDimensionPixelSize(0, defaultValue));
+            setMaxWidth(attributes.getDimensionPixelSize(R.attr.materialDialogMaxWidth,
+                    defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
             setMaxWidth(-1);
         }
@@ -181,8 +190,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainMaxHeight(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogMaxHeight});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultValue;
 
         try {
@@ -193,7 +201,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
         }
 
         try {
-            setMaxHeight(typedArray.getDimensionPixelSize(0, defaultValue));
+            setMaxHeight(attributes.getDimensionPixelSize(R.attr.materialDialogMaxHeight,
+                    defaultValue));
         } catch (Resources.NotFoundException | UnsupportedOperationException e) {
             setMaxHeight(-1);
         }
@@ -207,17 +216,19 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMargin(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogMarginLeft, R.attr.materialDialogMarginTop,
-                        R.attr.materialDialogMarginRight, R.attr.materialDialogMarginBottom});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultHorizontalMargin =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_horizontal_margin);
         int defaultVerticalMargin =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_vertical_margin);
-        int left = typedArray.getDimensionPixelSize(0, defaultHorizontalMargin);
-        int top = typedArray.getDimensionPixelSize(1, defaultVerticalMargin);
-        int right = typedArray.getDimensionPixelSize(2, defaultHorizontalMargin);
-        int bottom = typedArray.getDimensionPixelSize(3, defaultVerticalMargin);
+        int left = attributes.getDimensionPixelSize(R.attr.materialDialogMarginLeft,
+                defaultHorizontalMargin);
+        int top = attributes.getDimensionPixelSize(R.attr.materialDialogMarginTop,
+                defaultVerticalMargin);
+        int right = attributes.getDimensionPixelSize(R.attr.materialDialogMarginRight,
+                defaultHorizontalMargin);
+        int bottom = attributes.getDimensionPixelSize(R.attr.materialDialogMarginBottom,
+                defaultVerticalMargin);
         setMargin(left, top, right, bottom);
     }
 
@@ -229,9 +240,7 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainPadding(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogPaddingLeft, R.attr.materialDialogPaddingTop,
-                        R.attr.materialDialogPaddingRight, R.attr.materialDialogPaddingBottom});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultLeftPadding =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_left_padding);
         int defaultTopPadding =
@@ -240,10 +249,14 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_right_padding);
         int defaultBottomPadding =
                 getContext().getResources().getDimensionPixelSize(R.dimen.dialog_bottom_padding);
-        int left = typedArray.getDimensionPixelSize(0, defaultLeftPadding);
-        int top = typedArray.getDimensionPixelSize(1, defaultTopPadding);
-        int right = typedArray.getDimensionPixelSize(2, defaultRightPadding);
-        int bottom = typedArray.getDimensionPixelSize(3, defaultBottomPadding);
+        int left = attributes.getDimensionPixelSize(R.attr.materialDialogPaddingLeft,
+                defaultLeftPadding);
+        int top = attributes.getDimensionPixelSize(R.attr.materialDialogPaddingTop,
+                defaultTopPadding);
+        int right = attributes.getDimensionPixelSize(R.attr.materialDialogPaddingRight,
+                defaultRightPadding);
+        int bottom = attributes.getDimensionPixelSize(R.attr.materialDialogPaddingBottom,
+                defaultBottomPadding);
         setPadding(left, top, right, bottom);
     }
 
@@ -255,15 +268,15 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         content should be inset, should be obtained from, as a {@link Integer} value
      */
     private void obtainFitsSystemWindows(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogFitsSystemWindowsLeft,
-                        R.attr.materialDialogFitsSystemWindowsTop,
-                        R.attr.materialDialogFitsSystemWindowsRight,
-                        R.attr.materialDialogFitsSystemWindowsBottom});
-        boolean left = typedArray.getBoolean(0, true);
-        boolean top = typedArray.getBoolean(1, true);
-        boolean right = typedArray.getBoolean(2, true);
-        boolean bottom = typedArray.getBoolean(3, true);
+        StyledAttributes attributes = getStyledAttributes();
+        boolean left =
+                attributes.getBoolean(R.attr.materialDialogFitsSystemWindowsLeft, true);
+        boolean top =
+                attributes.getBoolean(R.attr.materialDialogFitsSystemWindowsTop, true);
+        boolean right =
+                attributes.getBoolean(R.attr.materialDialogFitsSystemWindowsRight, true);
+        boolean bottom =
+                attributes.getBoolean(R.attr.materialDialogFitsSystemWindowsBottom, true);
         setFitsSystemWindows(left, top, right, bottom);
     }
 
@@ -275,9 +288,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainWindowBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogWindowBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        StyledAttributes attributes = getStyledAttributes();
+        int resourceId = attributes.getResourceId(R.attr.materialDialogWindowBackground, 0);
 
         if (resourceId != 0) {
             setWindowBackground(resourceId);
@@ -294,9 +306,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainBackground(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogBackground});
-        int resourceId = typedArray.getResourceId(0, 0);
+        StyledAttributes attributes = getStyledAttributes();
+        int resourceId = attributes.getResourceId(R.attr.materialDialogBackground, 0);
 
         if (resourceId != 0) {
             setBackground(resourceId);
@@ -314,11 +325,10 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainMessageColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogMessageColor});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultColor = ThemeUtil
                 .getColor(getContext(), themeResourceId, android.R.attr.textColorSecondary);
-        setMessageColor(typedArray.getColor(0, defaultColor));
+        setMessageColor(attributes.getColor(R.attr.materialDialogMessageColor, defaultColor));
     }
 
     /**
@@ -329,11 +339,10 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainTitleColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogTitleColor});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultColor =
                 ThemeUtil.getColor(getContext(), themeResourceId, android.R.attr.textColorPrimary);
-        setTitleColor(typedArray.getColor(0, defaultColor));
+        setTitleColor(attributes.getColor(R.attr.materialDialogTitleColor, defaultColor));
     }
 
     /**
@@ -345,9 +354,8 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainIconTintList(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme()
-                .obtainStyledAttributes(themeResourceId, new int[]{R.attr.materialDialogIconTint});
-        setIconTintList(typedArray.getColorStateList(0));
+        StyledAttributes attributes = getStyledAttributes();
+        setIconTintList(attributes.getColorStateList(R.attr.materialDialogIconTint));
     }
 
     /**
@@ -358,11 +366,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         {@link Integer} value
      */
     private void obtainScrollableArea(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogScrollableAreaTop,
-                        R.attr.materialDialogScrollableAreaBottom});
-        int topIndex = typedArray.getInt(0, -1);
-        int bottomIndex = typedArray.getInt(1, -1);
+        StyledAttributes attributes = getStyledAttributes();
+        int topIndex = attributes.getInt(R.attr.materialDialogScrollableAreaTop, -1);
+        int bottomIndex = attributes.getInt(R.attr.materialDialogScrollableAreaBottom, -1);
 
         if (topIndex != -1) {
             Area top = Area.fromIndex(topIndex);
@@ -387,9 +393,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainShowDividersOnScroll(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogShowDividersOnScroll});
-        showDividersOnScroll(typedArray.getBoolean(0, true));
+        StyledAttributes attributes = getStyledAttributes();
+        showDividersOnScroll(attributes.getBoolean(R.attr.materialDialogShowDividersOnScroll,
+                true));
     }
 
     /**
@@ -400,10 +406,9 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainDividerColor(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogDividerColor});
+        StyledAttributes attributes = getStyledAttributes();
         int defaultColor = ContextCompat.getColor(getContext(), R.color.divider_color_light);
-        setDividerColor(typedArray.getColor(0, defaultColor));
+        setDividerColor(attributes.getColor(R.attr.materialDialogDividerColor, defaultColor));
     }
 
     /**
@@ -414,13 +419,28 @@ public abstract class AbstractMaterialDialogBuilder<DialogType extends MaterialD
      *         Integer} value
      */
     private void obtainDividerMargin(@StyleRes final int themeResourceId) {
-        TypedArray typedArray = getContext().getTheme().obtainStyledAttributes(themeResourceId,
-                new int[]{R.attr.materialDialogDividerMargin});
-        setDividerMargin(typedArray.getDimensionPixelSize(0, 0));
+        StyledAttributes attributes = getStyledAttributes();
+        setDividerMargin(attributes.getDimensionPixelSize(R.attr.materialDialogDividerMargin, 0));
+    }
+
+    /**
+     * Returns the values of the theme attributes, which are obtained by the builders. They are
+     * only available while the method {@link #obtainStyledAttributes(int)} is executed.
+     *
+     * @return The values of the theme attributes as an instance of the class {@link
+     * StyledAttributes}. The values may not be null
+     */
+    @NonNull
+    protected final StyledAttributes getStyledAttributes() {
+        Condition.INSTANCE.ensureNotNull(styledAttributes, "The theme attributes are not obtained",
+                IllegalStateException.class);
+        return styledAttributes;
     }
 
     /**
-     * Obtains all relevant attributes from the current theme.
+     * Obtains all relevant attributes from the current theme. The values of all theme attributes,
+     * which are obtained by the builders, can be retrieved by using the method {@link
+     * #getStyledAttributes()}.
      *
      * @param themeResourceId
      *         The resource id of the theme, which should be used by the dialog, as an {@link
@@ -0,0 +1,495 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.builder;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import androidx.annotation.AttrRes;
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.StyleRes;
+import androidx.core.content.ContextCompat;
+import androidx.core.os.ConfigurationCompat;
+import de.mrapp.android.dialog.R;
+import de.mrapp.util.Condition;
+
+/**
+ * Provides the values of the theme attributes, which are obtained by the builders. Once resolved,
+ * the values are cached for the theme of the context, the dialog's theme and the current
+ * configuration, so that builders, which use the same theme, do not have to resolve them again.
+ * The cache is bounded and it is cleared, when the configuration changes or the system runs low on
+ * memory.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public final class StyledAttributes {
+
+    /**
+     * The maximum number of dialog themes and configurations, whose values are cached per theme of
+     * a context.
+     */
+    private static final int MAX_ENTRIES = 8;
+
+    /**
+     * The theme attributes, which are obtained by the builders, in ascending order.
+     */
+    private static final int[] ATTRIBUTES = createAttributes();
+
+    /**
+     * A map, which contains the cached values of the theme attributes, mapped to the theme of the
+     * context they have been resolved for and a key, which identifies the dialog's theme and the
+     * configuration.
+     */
+    private static final Map<Resources.Theme, Map<String, TypedValue[]>> CACHE =
+            new WeakHashMap<>();
+
+    /**
+     * True, if the cache has been registered to be notified about memory and configuration
+     * changes, false otherwise.
+     */
+    private static boolean registered;
+
+    /**
+     * The context, which is used to resolve the values of the theme attributes.
+     */
+    private final Context context;
+
+    /**
+     * An array, which contains the values of the theme attributes in the order of the array {@link
+     * #ATTRIBUTES}. Attributes, which are not defined by the theme, are null.
+     */
+    private final TypedValue[] values;
+
+    /**
+     * Creates a new class, which provides the values of the theme attributes, which are obtained
+     * by the builders.
+     *
+     * @param context
+     *         The context, which should be used to resolve the values, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param values
+     *         An array, which contains the values of the theme attributes, as an array of the type
+     *         {@link TypedValue}. The array may not be null
+     */
+    private StyledAttributes(@NonNull final Context context, @NonNull final TypedValue[] values) {
+        this.context = context;
+        this.values = values;
+    }
+
+    /**
+     * Creates and returns an array, which contains the theme attributes, which are obtained by
+     * the builders, in ascending order.
+     *
+     * @return An array, which contains the theme attributes, as an {@link Integer} array. The
+     * array may not be null
+     */
+    private static int[] createAttributes() {
+        int[] attributes = new int[]{R.attr.materialDialogFullscreen,
+                R.attr.materialDialogGravity, R.attr.materialDialogWidth,
+                R.attr.materialDialogHeight, R.attr.materialDialogMaxWidth,
+                R.attr.materialDialogMaxHeight, R.attr.materialDialogMarginLeft,
+                R.attr.materialDialogMarginTop, R.attr.materialDialogMarginRight,
+                R.attr.materialDialogMarginBottom, R.attr.materialDialogPaddingLeft,
+                R.attr.materialDialogPaddingTop, R.attr.materialDialogPaddingRight,
+                R.attr.materialDialogPaddingBottom, R.attr.materialDialogFitsSystemWindowsLeft,
+                R.attr.materialDialogFitsSystemWindowsTop,
+                R.attr.materialDialogFitsSystemWindowsRight,
+                R.attr.materialDialogFitsSystemWindowsBottom,
+                R.attr.materialDialogWindowBackground, R.attr.materialDialogBackground,
+                R.attr.materialDialogMessageColor, R.attr.materialDialogTitleColor,
+                R.attr.materialDialogIconTint, R.attr.materialDialogScrollableAreaTop,
+                R.attr.materialDialogScrollableAreaBottom,
+                R.attr.materialDialogShowDividersOnScroll, R.attr.materialDialogDividerColor,
+                R.attr.materialDialogDividerMargin, R.attr.materialDialogShowHeader,
+                R.attr.materialDialogHeaderHeight, R.attr.materialDialogHeaderBackground,
+                R.attr.materialDialogHeaderIcon, R.attr.materialDialogHeaderIconTint,
+                R.attr.materialDialogHeaderDividerColor, R.attr.materialDialogShowHeaderDivider,
+                R.attr.materialDialogButtonTextColor, R.attr.materialDialogShowButtonBarDivider,
+                R.attr.materialDialogItemColor, R.attr.materialDialogErrorColor,
+                R.attr.materialDialogHelperTextColor, R.attr.materialDialogProgressBarColor,
+                R.attr.materialDialogProgressBarSize, R.attr.materialDialogProgressBarThickness,
+                R.attr.materialDialogProgressBarPosition, R.attr.materialDialogTabPosition,
+                R.attr.materialDialogEnableTabLayout, R.attr.materialDialogShowTabLayout,
+                R.attr.materialDialogTabIndicatorHeight, R.attr.materialDialogTabIndicatorColor,
+                R.attr.materialDialogTabTextColor, R.attr.materialDialogTabSelectedTextColor,
+                R.attr.materialDialogEnableSwipe, R.attr.materialDialogShowButtonBar,
+                R.attr.materialDialogBackButtonText, R.attr.materialDialogNextButtonText,
+                R.attr.materialDialogFinishButtonText};
+        Arrays.sort(attributes);
+        return attributes;
+    }
+
+    /**
+     * Returns the key, which identifies the values of the theme attributes of a specific theme,
+     * when using the current configuration of a specific context.
+     *
+     * @param context
+     *         The context, whose configuration should be used, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the dialog's theme as an {@link Integer} value
+     * @return The key as a {@link String}. The key may not be null
+     */
+    @NonNull
+    private static String getKey(@NonNull final Context context,
+                                 @StyleRes final int themeResourceId) {
+        Resources resources = context.getResources();
+        Configuration configuration = resources.getConfiguration();
+        return themeResourceId + ":" + configuration.orientation + ":" +
+                configuration.screenWidthDp + ":" + configuration.screenHeightDp + ":" +
+                configuration.smallestScreenWidthDp + ":" +
+                resources.getDisplayMetrics().densityDpi + ":" + configuration.fontScale + ":" +
+                configuration.uiMode + ":" + ConfigurationCompat.getLocales(configuration).get(0);
+    }
+
+    /**
+     * Resolves the values of the theme attributes, which are obtained by the builders.
+     *
+     * @param context
+     *         The context, which uses the dialog's theme, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the dialog's theme as an {@link Integer} value
+     * @return An array, which contains the values of the theme attributes, as an array of the type
+     * {@link TypedValue}. The array may not be null
+     */
+    @NonNull
+    private static TypedValue[] resolveValues(@NonNull final Context context,
+                                              @StyleRes final int themeResourceId) {
+        TypedValue[] values = new TypedValue[ATTRIBUTES.length];
+        TypedArray typedArray =
+                context.getTheme().obtainStyledAttributes(themeResourceId, ATTRIBUTES);
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                TypedValue value = new TypedValue();
+
+                if (typedArray.getValue(i, value) && value.type != TypedValue.TYPE_NULL) {
+                    values[i] = value;
+                }
+            }
+        } finally {
+            typedArray.recycle();
+        }
+
+        return values;
+    }
+
+    /**
+     * Registers the cache to be cleared, when the configuration changes or the system runs low on
+     * memory, if not already registered.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     */
+    private static void register(@NonNull final Context context) {
+        Context applicationContext = context.getApplicationContext();
+
+        if (!registered && applicationContext != null) {
+            applicationContext.registerComponentCallbacks(new ComponentCallbacks() {
+
+                @Override
+                public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+                    clearCache();
+                }
+
+                @Override
+                public void onLowMemory() {
+                    clearCache();
+                }
+
+            });
+
+            registered = true;
+        }
+    }
+
+    /**
+     * Returns the values of the theme attributes, which are obtained by the builders, for a
+     * specific theme. If the values have already been resolved for the same themes and
+     * configuration, the cached values are used.
+     *
+     * @param context
+     *         The context, which uses the dialog's theme, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param baseTheme
+     *         The theme of the context, the dialog's theme is applied to, as an instance of the
+     *         class {@link Resources.Theme}. The theme may not be null
+     * @param themeResourceId
+     *         The resource id of the dialog's theme as an {@link Integer} value
+     * @return The values of the theme attributes as an instance of the class {@link
+     * StyledAttributes}. The values may not be null
+     */
+    @NonNull
+    static StyledAttributes obtain(@NonNull final Context context,
+                                   @NonNull final Resources.Theme baseTheme,
+                                   @StyleRes final int themeResourceId) {
+        String key = getKey(context, themeResourceId);
+        TypedValue[] values;
+
+        synchronized (CACHE) {
+            register(context);
+            Map<String, TypedValue[]> entries = CACHE.get(baseTheme);
+
+            if (entries == null) {
+                entries = new LinkedHashMap<String, TypedValue[]>(MAX_ENTRIES, 0.75f, true) {
+
+                    @Override
+                    protected boolean removeEldestEntry(final Entry<String, TypedValue[]> eldest) {
+                        return size() > MAX_ENTRIES;
+                    }
+
+                };
+                CACHE.put(baseTheme, entries);
+            }
+
+            values = entries.get(key);
+
+            if (values == null) {
+                values = resolveValues(context, themeResourceId);
+                entries.put(key, values);
+            }
+        }
+
+        return new StyledAttributes(context, values);
+    }
+
+    /**
+     * Resolves the values of the theme attributes, which are obtained by the builders, for a
+     * specific theme in advance, if they have not been cached for the same themes and
+     * configuration yet. This allows builders, which use the same context and theme, to use the
+     * cached values.
+     *
+     * @param context
+     *         The context, the dialog's theme is applied to, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param themeResourceId
+     *         The resource id of the dialog's theme as an {@link Integer} value
+     */
+    public static void prefetch(@NonNull final Context context,
+                                @StyleRes final int themeResourceId) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        obtain(new ContextThemeWrapper(context, themeResourceId), context.getTheme(),
+                themeResourceId);
+    }
+
+    /**
+     * Clears the cached values of the theme attributes. The values are resolved again, when the
+     * next dialog is created.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Returns the value of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @return The value of the given theme attribute as an instance of the class {@link
+     * TypedValue} or null, if the attribute is not defined by the theme
+     */
+    @Nullable
+    private TypedValue getValue(@AttrRes final int attribute) {
+        int index = Arrays.binarySearch(ATTRIBUTES, attribute);
+        Condition.INSTANCE.ensureAtLeast(index, 0, "The attribute is not obtained by the builders");
+        return values[index];
+    }
+
+    /**
+     * Returns, whether a specific value is an integer value, or not.
+     *
+     * @param value
+     *         The value, which should be checked, as an instance of the class {@link TypedValue}.
+     *         The value may not be null
+     * @return True, if the given value is an integer value, false otherwise
+     */
+    private static boolean isInteger(@NonNull final TypedValue value) {
+        return value.type >= TypedValue.TYPE_FIRST_INT && value.type <= TypedValue.TYPE_LAST_INT;
+    }
+
+    /**
+     * Returns the boolean value of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as a {@link
+     *         Boolean} value
+     * @return The boolean value of the given theme attribute as a {@link Boolean} value
+     */
+    public boolean getBoolean(@AttrRes final int attribute, final boolean defaultValue) {
+        TypedValue value = getValue(attribute);
+        return value != null && isInteger(value) ? value.data != 0 : defaultValue;
+    }
+
+    /**
+     * Returns the integer value of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The integer value of the given theme attribute as an {@link Integer} value
+     */
+    public int getInt(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = getValue(attribute);
+        return value != null && isInteger(value) ? value.data : defaultValue;
+    }
+
+    /**
+     * Returns the integer value of a specific theme attribute. In contrast to the method {@link
+     * #getInt(int, int)}, an exception is thrown, if the attribute is defined, but is not an
+     * integer value.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The integer value of the given theme attribute as an {@link Integer} value
+     */
+    public int getInteger(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = getValue(attribute);
+
+        if (value == null) {
+            return defaultValue;
+        } else if (isInteger(value)) {
+            return value.data;
+        }
+
+        throw new UnsupportedOperationException("The attribute is not an integer value");
+    }
+
+    /**
+     * Returns the dimension value of a specific theme attribute in pixels.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The dimension value of the given theme attribute in pixels as an {@link Integer}
+     * value
+     */
+    public int getDimensionPixelSize(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = getValue(attribute);
+
+        if (value == null) {
+            return defaultValue;
+        } else if (value.type == TypedValue.TYPE_DIMENSION) {
+            return TypedValue.complexToDimensionPixelSize(value.data,
+                    context.getResources().getDisplayMetrics());
+        }
+
+        throw new UnsupportedOperationException("The attribute is not a dimension value");
+    }
+
+    /**
+     * Returns the color value of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The color value of the given theme attribute as an {@link Integer} value
+     */
+    @ColorInt
+    public int getColor(@AttrRes final int attribute, @ColorInt final int defaultValue) {
+        ColorStateList colorStateList = getColorStateList(attribute);
+        return colorStateList != null ? colorStateList.getDefaultColor() : defaultValue;
+    }
+
+    /**
+     * Returns the color state list of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @return The color state list of the given theme attribute as an instance of the class {@link
+     * ColorStateList} or null, if the attribute is not defined
+     */
+    @Nullable
+    public ColorStateList getColorStateList(@AttrRes final int attribute) {
+        TypedValue value = getValue(attribute);
+
+        if (value == null) {
+            return null;
+        } else if (value.type >= TypedValue.TYPE_FIRST_COLOR_INT &&
+                value.type <= TypedValue.TYPE_LAST_COLOR_INT) {
+            return ColorStateList.valueOf(value.data);
+        } else if (value.resourceId != 0) {
+            return ContextCompat.getColorStateList(context, value.resourceId);
+        }
+
+        throw new UnsupportedOperationException("The attribute is not a color value");
+    }
+
+    /**
+     * Returns the resource id of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @param defaultValue
+     *         The value, which should be returned, if the attribute is not defined, as an {@link
+     *         Integer} value
+     * @return The resource id of the given theme attribute as an {@link Integer} value
+     */
+    public int getResourceId(@AttrRes final int attribute, final int defaultValue) {
+        TypedValue value = getValue(attribute);
+        return value != null && value.resourceId != 0 ? value.resourceId : defaultValue;
+    }
+
+    /**
+     * Returns the text of a specific theme attribute.
+     *
+     * @param attribute
+     *         The theme attribute, whose value should be returned, as an {@link Integer} value.
+     *         The attribute must be obtained by the builders
+     * @return The text of the given theme attribute as an instance of the type {@link
+     * CharSequence} or null, if the attribute is not defined
+     */
+    @Nullable
+    public CharSequence getText(@AttrRes final int attribute) {
+        TypedValue value = getValue(attribute);
+        return value != null ? value.coerceToString() : null;
+    }
+
+}
@@ -96,6 +96,14 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
      */
     protected abstract void onDetach();
 
+    /**
+     * The method, which is invoked, when the decorator is reset. It may be overridden by
+     * subclasses in order to discard properties, which are not obtained from the dialog's theme.
+     */
+    protected void onReset() {
+
+    }
+
     /**
      * Creates a new decorator, which allows to modify the view hierarchy of a dialog.
      *
@@ -156,6 +164,17 @@ public abstract class AbstractDecorator<DialogType extends Dialog, ParamType>
         onDetach();
     }
 
+    /**
+     * Resets the decorator, in order to reuse it for showing another dialog. This discards all
+     * properties, which are not obtained from the dialog's theme, such as texts, icons, custom
+     * views and listeners. The decorator must not be attached to the view hierarchy.
+     *
+     * @since 5.3.0
+     */
+    public final void reset() {
+        onReset();
+    }
+
     /**
      * Adds a new listener, which should be notified, when an area is modified by the dialog.
      *
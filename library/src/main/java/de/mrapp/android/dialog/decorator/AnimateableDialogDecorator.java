@@ -581,4 +581,11 @@ public class AnimateableDialogDecorator extends AbstractDialogDecorator<HeaderDi
 
     }
 
+    @Override
+    protected final void onReset() {
+        setShowAnimation(null);
+        setDismissAnimation(null);
+        setCancelAnimation(null);
+    }
+
 }
\ No newline at end of file
@@ -569,4 +569,14 @@ public class ButtonBarDialogDecorator extends AbstractDialogDecorator<Validateab
         buttonBarDivider = null;
     }
 
+    @Override
+    protected final void onReset() {
+        stackButtons(false);
+        setPositiveButton((CharSequence) null, null);
+        setNegativeButton((CharSequence) null, null);
+        setNeutralButton((CharSequence) null, null);
+        setCustomButtonBar((View) null);
+        buttonTypeface = null;
+    }
+
 }
\ No newline at end of file
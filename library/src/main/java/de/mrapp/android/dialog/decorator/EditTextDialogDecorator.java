@@ -647,6 +647,17 @@ public class EditTextDialogDecorator extends AbstractDialogDecorator<ButtonBarDi
         textInputLayout = null;
     }
 
+    @Override
+    protected final void onReset() {
+        setText(null);
+        setHint((CharSequence) null);
+        setHelperText((CharSequence) null);
+        validators.clear();
+        validationListeners.clear();
+        validateOnValueChange(true);
+        validateOnFocusLost(true);
+    }
+
     @Override
     public boolean validate(@NonNull final ValidateableDialog dialog) {
         return validate();
@@ -734,4 +734,13 @@ public class HeaderDialogDecorator extends AbstractDialogDecorator<MaterialDialo
         headerDivider = null;
     }
 
+    @Override
+    protected final void onReset() {
+        setCustomHeader((View) null);
+        headerIconBitmap = null;
+        headerIconId = -1;
+        headerIcon = null;
+        setHeaderIconTintMode(PorterDuff.Mode.SRC_ATOP);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.decorator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A process-local store, which allows to retain the texts of large numbers of list items across
+ * configuration changes without writing them to a bundle. Instead, only a token, which identifies
+ * the stored texts, is written to the bundle. Each dialog uses a single token, whose entry is
+ * replaced whenever the dialog's state is saved and removed, when it is restored or when the dialog
+ * is dismissed. Stored texts are lost, if the process is terminated. Only a limited number of
+ * entries is retained. Once the store is full, the least recently used entry is evicted.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class ItemStore {
+
+    /**
+     * The maximum number of entries, which are retained by the store.
+     */
+    static final int MAX_ENTRIES = 8;
+
+    /**
+     * A map, which contains the stored texts, mapped to their tokens. The entries are ordered by
+     * their last access.
+     */
+    private static final Map<String, CharSequence[]> ENTRIES =
+            new LinkedHashMap<String, CharSequence[]>(MAX_ENTRIES + 1, 1f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<String, CharSequence[]> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+
+            };
+
+    /**
+     * Creates a new store.
+     */
+    private ItemStore() {
+
+    }
+
+    /**
+     * Creates and returns a new token, which can be used to store texts.
+     *
+     * @return The token, which has been created, as a {@link String}. The token may not be null
+     */
+    @NonNull
+    static String createToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Stores the texts of list items. Texts, which have previously been stored by using the same
+     * token, are replaced. If the store is full, the least recently used texts are evicted.
+     *
+     * @param token
+     *         The token, which should identify the texts, as a {@link String}. The token may not
+     *         be null
+     * @param items
+     *         An array, which contains the texts, which should be stored, as a {@link
+     *         CharSequence} array. The array may not be null
+     */
+    static synchronized void put(@NonNull final String token,
+                                 @NonNull final CharSequence[] items) {
+        ENTRIES.put(token, items);
+    }
+
+    /**
+     * Removes the texts of list items, which are identified by a specific token, from the store.
+     *
+     * @param token
+     *         The token, which identifies the texts, as a {@link String}. The token may not be
+     *         null
+     * @return An array, which contains the texts, which have been removed, as a {@link
+     * CharSequence} array or null, if no texts are stored for the given token
+     */
+    @Nullable
+    static synchronized CharSequence[] remove(@NonNull final String token) {
+        return ENTRIES.remove(token);
+    }
+
+}
@@ -13,15 +13,22 @@
  */
 package de.mrapp.android.dialog.decorator;
 
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
 import android.content.DialogInterface;
 import android.content.res.ColorStateList;
 import android.graphics.PorterDuff;
 import android.graphics.Typeface;
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextUtils;
+import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.Window;
+import android.widget.EditText;
 
 import androidx.annotation.ArrayRes;
 import androidx.annotation.ColorInt;
@@ -30,6 +37,7 @@ import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,6 +45,9 @@ import java.util.Map;
 import de.mrapp.android.dialog.R;
 import de.mrapp.android.dialog.ScrollableArea.Area;
 import de.mrapp.android.dialog.adapter.ArrayRecyclerViewAdapter;
+import de.mrapp.android.dialog.adapter.ItemFilter;
+import de.mrapp.android.dialog.adapter.ItemSource;
+import de.mrapp.android.dialog.adapter.PagedItemLoader;
 import de.mrapp.android.dialog.adapter.RecyclerViewAdapterWrapper;
 import de.mrapp.android.dialog.adapter.RecyclerViewAdapterWrapper.ChoiceMode;
 import de.mrapp.android.dialog.adapter.RecyclerViewAdapterWrapper.MultipleChoiceMode;
@@ -98,16 +109,46 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
             ListDialogDecorator.class.getSimpleName() + "::multiChoiceItems";
 
     /**
-     * The name of the extra, which is used to store the checked items within a bundle.
+     * The name of the extra, which is used to store the run lengths of the checked and unchecked
+     * items within a bundle.
+     */
+    private static final String CHECKED_ITEM_RUNS_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::checkedItemRuns";
+
+    /**
+     * The name of the extra, which is used to store the run lengths of the disabled and enabled
+     * items within a bundle.
+     */
+    private static final String ENABLED_ITEM_RUNS_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::enabledItemRuns";
+
+    /**
+     * The maximum number of items, whose texts are always written to a bundle. If the texts of
+     * items are retained in memory, the texts of more items are retained by the {@link ItemStore}
+     * instead.
+     */
+    private static final int MAX_PARCELED_ITEMS = 500;
+
+    /**
+     * The name of the extra, which is used to store, whether the filter field is shown, within a
+     * bundle.
+     */
+    private static final String SHOW_FILTER_FIELD_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::showFilterField";
+
+    /**
+     * The name of the extra, which is used to store the query, which is used to filter the list
+     * items, within a bundle.
      */
-    private static final String CHECKED_ITEMS_EXTRA =
-            ListDialogDecorator.class.getSimpleName() + "::checkedItems";
+    private static final String FILTER_QUERY_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::filterQuery";
 
     /**
-     * The name of the extra, which is used to store the enabled items within a bundle.
+     * The name of the extra, which is used to store the position of the first visible list item,
+     * which is provided by an item source, within a bundle.
      */
-    private static final String ENABLED_ITEMS_EXTRA =
-            ListDialogDecorator.class.getSimpleName() + "::enabledItems";
+    private static final String ITEM_SOURCE_POSITION_EXTRA =
+            ListDialogDecorator.class.getSimpleName() + "::itemSourcePosition";
 
     /**
      * The list view, which is used to show the dialog's list items.
@@ -145,6 +186,24 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
      */
     private PorterDuff.Mode itemIconTintMode = PorterDuff.Mode.SRC_ATOP;
 
+    /**
+     * True, if the foreground of the dialog's list items should be applied to their views
+     * directly, if possible, false otherwise.
+     */
+    private boolean itemViewsFlattened;
+
+    /**
+     * True, if the texts of large numbers of the dialog's list items are retained in memory
+     * instead of being written to the saved instance state, false otherwise.
+     */
+    private boolean itemsRetainedInMemory;
+
+    /**
+     * The token, which identifies the texts of the dialog's list items within the {@link
+     * ItemStore}, or null, if no token has been created yet.
+     */
+    private String itemStoreToken;
+
     /**
      * The adapter, which is used to manage the list items of the dialog.
      */
@@ -198,6 +257,83 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
      */
     private CharSequence[] multiChoiceItems;
 
+    /**
+     * The edit text, which allows to enter a query in order to filter the dialog's list items.
+     */
+    private EditText filterField;
+
+    /**
+     * The text watcher, which is notified, when the text of the filter field has been changed.
+     */
+    private final TextWatcher filterFieldWatcher = new TextWatcher() {
+
+        @Override
+        public void beforeTextChanged(final CharSequence s, final int start, final int count,
+                                      final int after) {
+
+        }
+
+        @Override
+        public void onTextChanged(final CharSequence s, final int start, final int before,
+                                  final int count) {
+
+        }
+
+        @Override
+        public void afterTextChanged(final Editable s) {
+            setFilterQuery(s.toString());
+        }
+
+    };
+
+    /**
+     * True, if the filter field should be shown, false otherwise.
+     */
+    private boolean filterFieldShown;
+
+    /**
+     * The query, which is used to filter the dialog's list items.
+     */
+    private CharSequence filterQuery;
+
+    /**
+     * The filter, which is used to filter the dialog's list items.
+     */
+    private ItemFilter itemFilter;
+
+    /**
+     * The loader, which is used to load the dialog's list items from an item source, or null, if
+     * the list items are not provided by an item source.
+     */
+    private PagedItemLoader itemLoader;
+
+    /**
+     * The number of list items before and after the visible ones, which are loaded in advance, if
+     * the list items are provided by an item source.
+     */
+    private int itemPrefetchDistance = PagedItemLoader.DEFAULT_PREFETCH_DISTANCE;
+
+    /**
+     * The position of the list item, which should be scrolled to, once list items, which are
+     * provided by an item source, are shown, or -1, if no list item should be scrolled to.
+     */
+    private int pendingItemSourcePosition = -1;
+
+    /**
+     * The scroll listener, which loads the list items, which are provided by an item source, when
+     * they are about to become visible.
+     */
+    private final RecyclerView.OnScrollListener itemLoaderScrollListener =
+            new RecyclerView.OnScrollListener() {
+
+                @Override
+                public void onScrolled(@NonNull final RecyclerView recyclerView, final int dx,
+                                       final int dy) {
+                    loadVisibleItems();
+                }
+
+            };
+
     /**
      * Inflates the list view, which is used to show the dialog's list items.
      *
@@ -221,6 +357,160 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
 
         View divider = contentContainer.findViewById(R.id.list_divider);
         this.listDivider = divider instanceof Divider ? (Divider) divider : null;
+        View filterField = contentContainer.findViewById(R.id.list_filter_field);
+        this.filterField = filterField instanceof EditText ? (EditText) filterField : null;
+
+        if (this.filterField != null) {
+            this.filterField.addTextChangedListener(filterFieldWatcher);
+        }
+    }
+
+    /**
+     * Returns the texts of the dialog's list items, if they can be filtered.
+     *
+     * @return An array, which contains the texts of the dialog's list items, as a {@link
+     * CharSequence} array or null, if the list items cannot be filtered
+     */
+    @Nullable
+    private CharSequence[] getFilterableItems() {
+        if (items != null) {
+            return items;
+        } else if (singleChoiceItems != null) {
+            return singleChoiceItems;
+        } else {
+            return multiChoiceItems;
+        }
+    }
+
+    /**
+     * Filters the dialog's list items by using the current query.
+     */
+    private void adaptFilter() {
+        CharSequence[] filterableItems = getFilterableItems();
+
+        if (adapter != null && filterableItems != null) {
+            if (itemFilter == null || itemFilter.getItems() != filterableItems) {
+                if (itemFilter != null) {
+                    itemFilter.cancel();
+                }
+
+                itemFilter = new ItemFilter(filterableItems);
+            }
+
+            final RecyclerViewAdapterWrapper<?> filteredAdapter = adapter;
+            itemFilter.filter(filterQuery, new ItemFilter.Callback() {
+
+                @Override
+                public void onFiltered(@Nullable final int[] positions) {
+                    if (adapter == filteredAdapter) {
+                        filteredAdapter.setFilteredPositions(positions);
+                    }
+                }
+
+            });
+        } else if (itemFilter != null) {
+            itemFilter.cancel();
+            itemFilter = null;
+        }
+    }
+
+    /**
+     * Sets the item source, which provides the dialog's list items, and creates the adapter, which
+     * is used to show them.
+     *
+     * @param source           The item source, which should be set, as an instance of the type
+     *                         {@link ItemSource} or null, if no list items should be shown
+     * @param layoutResourceId The id of the layout resource, which should be used to display the
+     *                         list items, as an {@link Integer} value
+     * @param choiceMode       The choice mode, which should be used by the adapter, as an
+     *                         instance of the type {@link ChoiceMode}. The choice mode may not be
+     *                         null
+     */
+    private void initializeItemSource(@Nullable final ItemSource source,
+                                      final int layoutResourceId,
+                                      @NonNull final ChoiceMode choiceMode) {
+        this.items = null;
+        this.iconResourceIds = null;
+        this.singleChoiceItems = null;
+        this.multiChoiceItems = null;
+        this.itemLoader = source != null ? new PagedItemLoader(source) : null;
+
+        if (itemLoader != null) {
+            itemLoader.setPrefetchDistance(itemPrefetchDistance);
+            this.adapter = new RecyclerViewAdapterWrapper<>(getContext(),
+                    new ArrayRecyclerViewAdapter(layoutResourceId, itemLoader.getItems(), null),
+                    choiceMode);
+            itemLoader.setAdapter(adapter);
+        } else {
+            this.adapter = null;
+        }
+
+        this.layoutManager = new LinearLayoutManager(getContext());
+    }
+
+    /**
+     * Loads the list items, which are provided by an item source, and which are currently
+     * visible or about to become visible.
+     */
+    private void loadVisibleItems() {
+        if (itemLoader != null) {
+            if (listView != null && layoutManager instanceof LinearLayoutManager) {
+                LinearLayoutManager linearLayoutManager = (LinearLayoutManager) layoutManager;
+                int firstPosition = linearLayoutManager.findFirstVisibleItemPosition();
+
+                if (firstPosition != RecyclerView.NO_POSITION) {
+                    itemLoader.loadItems(firstPosition,
+                            linearLayoutManager.findLastVisibleItemPosition());
+                    return;
+                }
+            }
+
+            int position = Math.max(0, pendingItemSourcePosition);
+            itemLoader.loadItems(position, position);
+        }
+    }
+
+    /**
+     * Adapts the list view in order to load list items, which are provided by an item source, when
+     * they are about to become visible.
+     */
+    private void adaptItemLoader() {
+        if (listView != null) {
+            listView.removeOnScrollListener(itemLoaderScrollListener);
+
+            if (itemLoader != null) {
+                listView.addOnScrollListener(itemLoaderScrollListener);
+
+                if (pendingItemSourcePosition != -1) {
+                    if (pendingItemSourcePosition < adapter.getItemCount()) {
+                        layoutManager.scrollToPosition(pendingItemSourcePosition);
+                    }
+
+                    loadVisibleItems();
+                    pendingItemSourcePosition = -1;
+                    return;
+                }
+            }
+        }
+
+        loadVisibleItems();
+    }
+
+    /**
+     * Adapts the visibility and text of the filter field.
+     */
+    private void adaptFilterField() {
+        if (filterField != null) {
+            if (!TextUtils.equals(filterField.getText().toString(),
+                    filterQuery != null ? filterQuery.toString() : "")) {
+                filterField.removeTextChangedListener(filterFieldWatcher);
+                filterField.setText(filterQuery);
+                filterField.addTextChangedListener(filterFieldWatcher);
+            }
+
+            filterField.setVisibility(filterFieldShown && getFilterableItems() != null ?
+                    View.VISIBLE : View.GONE);
+        }
     }
 
     /**
@@ -231,6 +521,7 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
             if (adapter != null) {
                 listView.setHasFixedSize(false);
                 listView.setLayoutManager(layoutManager);
+                adapter.setItemViewsFlattened(itemViewsFlattened);
                 listView.setAdapter(adapter);
                 listView.setVisibility(adapter != null ? View.VISIBLE : View.GONE);
                 adapter.setOnItemSelectedListener(listViewItemSelectedListener);
@@ -240,6 +531,9 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
                 adaptItemTypeface();
                 adaptItemIconTintList();
                 adaptItemIconTintMode();
+                adaptFilterField();
+                adaptFilter();
+                adaptItemLoader();
             } else {
                 if (inflatedCustomView) {
                     getDialog().setView(null);
@@ -251,44 +545,136 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     }
 
     /**
-     * Returns an array, which identifies the currently checked list items.
+     * Replaces the texts and icons of the list items, which are shown by the dialog's current
+     * adapter, without replacing the adapter itself. This preserves the list view's view holders and
+     * scroll position and carries over the selection and enable states of list items, which are
+     * still shown. The changes are calculated synchronously on the UI thread.
      *
-     * @return An array, which identifies the currently checked list items, as {@link Boolean} array
+     * @param items           An array, which contains the texts of the new list items, as a {@link
+     *                        CharSequence} array. The array may not be null
+     * @param iconResourceIds An array, which contains the resource ids of the new items' icons, as
+     *                        an {@link Integer} array or null, if no icons should be displayed
+     * @return True, if the list items have been replaced, false, if the current adapter does not
+     * allow to replace its list items
      */
-    @Nullable
-    private boolean[] getCheckedItems() {
+    private boolean updateItems(@NonNull final CharSequence[] items,
+                                @Nullable final int[] iconResourceIds) {
         if (adapter != null) {
-            boolean[] result = new boolean[adapter.getItemCount()];
+            RecyclerView.Adapter<?> wrappedAdapter = adapter.getWrappedAdapter();
 
-            for (int i = 0; i < result.length; i++) {
-                result[i] = adapter.isItemChecked(i);
+            if (wrappedAdapter instanceof ArrayRecyclerViewAdapter) {
+                ArrayRecyclerViewAdapter arrayAdapter = (ArrayRecyclerViewAdapter) wrappedAdapter;
+                int oldItemCount = arrayAdapter.getItemCount();
+                adapter.dispatchItemChanges(arrayAdapter.setItems(items, iconResourceIds),
+                        oldItemCount);
+                return true;
             }
-
-            return result;
         }
 
-        return null;
+        return false;
     }
 
     /**
-     * Returns an array, which identifies the currently enabled list items.
+     * Returns the lengths of the runs of currently checked list items, as they are encoded by the
+     * class {@link RunLengthEncoding}.
      *
-     * @return An array, which identifies the currently enabled list items, as a {@link Boolean}
-     * array
+     * @return An array, which contains the lengths of the runs, as an {@link Integer} array or
+     * null, if no list items are shown by the dialog
      */
     @Nullable
-    private boolean[] getEnabledItems() {
-        if (adapter != null) {
-            boolean[] result = new boolean[adapter.getItemCount()];
+    private int[] getCheckedItemRuns() {
+        return adapter != null ? RunLengthEncoding
+                .encodeRuns(adapter.getCheckedItems(), adapter.getUnfilteredItemCount()) : null;
+    }
 
-            for (int i = 0; i < result.length; i++) {
-                result[i] = adapter.isItemEnabled(i);
+    /**
+     * Returns the lengths of the runs of currently enabled list items, as they are encoded by the
+     * class {@link RunLengthEncoding}.
+     *
+     * @return An array, which contains the lengths of the runs, as an {@link Integer} array or
+     * null, if no list items are shown by the dialog
+     */
+    @Nullable
+    private int[] getEnabledItemRuns() {
+        return adapter != null ? RunLengthEncoding
+                .encodeRuns(adapter.getEnabledItems(), adapter.getUnfilteredItemCount()) : null;
+    }
+
+    /**
+     * Stores the texts of items within a bundle. If the texts of items are retained in memory and
+     * the number of items exceeds {@link #MAX_PARCELED_ITEMS}, the texts are retained by the {@link
+     * ItemStore} and only the dialog's token, which identifies them, is written to the bundle.
+     *
+     * @param bundle The bundle, the texts should be stored in, as an instance of the class {@link
+     *               Bundle}. The bundle may not be null
+     * @param key    The key, which should be used, as a {@link String}. The key may not be null
+     * @param items  An array, which contains the texts, which should be stored, as a {@link
+     *               CharSequence} array. The array may not be null
+     */
+    private void putItems(@NonNull final Bundle bundle, @NonNull final String key,
+                          @NonNull final CharSequence[] items) {
+        if (itemsRetainedInMemory && items.length > MAX_PARCELED_ITEMS) {
+            if (itemStoreToken == null) {
+                itemStoreToken = ItemStore.createToken();
             }
 
-            return result;
+            ItemStore.put(itemStoreToken, items);
+            bundle.putString(key, itemStoreToken);
+        } else {
+            bundle.putCharSequenceArray(key, items);
         }
+    }
 
-        return null;
+    /**
+     * Removes the texts of the dialog's items from the {@link ItemStore}, if they have been
+     * retained by it.
+     */
+    private void removeStoredItems() {
+        if (itemStoreToken != null) {
+            ItemStore.remove(itemStoreToken);
+        }
+    }
+
+    /**
+     * Returns, whether the activity, the dialog belongs to, is being recreated due to a
+     * configuration change, or not.
+     *
+     * @return True, if the activity is being recreated due to a configuration change, false
+     * otherwise
+     */
+    private boolean isChangingConfigurations() {
+        Context context = getContext();
+
+        while (!(context instanceof Activity) && context instanceof ContextWrapper &&
+                ((ContextWrapper) context).getBaseContext() != null) {
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        return context instanceof Activity && ((Activity) context).isChangingConfigurations();
+    }
+
+    /**
+     * Returns the texts of items, which have been stored within a bundle by using the method
+     * {@link #putItems(Bundle, String, CharSequence[])}. Texts, which have been retained by the
+     * {@link ItemStore}, are removed from it. They are not available anymore, if the process has
+     * been terminated in the meantime.
+     *
+     * @param bundle The bundle, the texts have been stored in, as an instance of the class {@link
+     *               Bundle}. The bundle may not be null
+     * @param key    The key, which has been used, as a {@link String}. The key may not be null
+     * @return An array, which contains the texts, as a {@link CharSequence} array or null, if no
+     * texts are available
+     */
+    @Nullable
+    private static CharSequence[] getItems(@NonNull final Bundle bundle,
+                                           @NonNull final String key) {
+        Object value = bundle.get(key);
+
+        if (value instanceof String) {
+            return ItemStore.remove((String) value);
+        }
+
+        return value instanceof CharSequence[] ? (CharSequence[]) value : null;
     }
 
     /**
@@ -387,8 +773,57 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
      */
     private void adaptEnabledItems(@Nullable final boolean[] enabledItems) {
         if (enabledItems != null && adapter != null) {
-            for (int i = 0; i < enabledItems.length; i++) {
-                adapter.setItemEnabled(i, enabledItems[i]);
+            int start = 0;
+
+            for (int i = 1; i <= enabledItems.length; i++) {
+                if (i == enabledItems.length || enabledItems[i] != enabledItems[start]) {
+                    adapter.setItemsEnabled(start, i, enabledItems[start]);
+                    start = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adapts the checked and enabled list items, which are provided by an item source. The states
+     * are only adapted, if they correspond to the number of list items, which are provided by the
+     * current item source.
+     *
+     * @param checkedItems
+     *         An array, which indicates the checked items, as a {@link Boolean} array or null
+     * @param enabledItems
+     *         An array, which indicates the enabled items, as a {@link Boolean} array or null
+     */
+    private void adaptItemSourceStates(@Nullable final boolean[] checkedItems,
+                                       @Nullable final boolean[] enabledItems) {
+        if (adapter != null) {
+            int itemCount = adapter.getUnfilteredItemCount();
+            ChoiceMode choiceMode = adapter.getChoiceMode();
+
+            if (checkedItems != null && checkedItems.length == itemCount) {
+                if (choiceMode instanceof MultipleChoiceMode) {
+                    int[] positions = new int[itemCount];
+                    int count = 0;
+
+                    for (int i = 0; i < checkedItems.length; i++) {
+                        if (checkedItems[i]) {
+                            positions[count++] = i;
+                        }
+                    }
+
+                    adapter.setAllItemsChecked(false);
+                    adapter.setItemsChecked(Arrays.copyOf(positions, count), true);
+                } else if (choiceMode instanceof SingleChoiceMode) {
+                    int checkedItem = indexOfCheckedItem(checkedItems);
+
+                    if (checkedItem != -1) {
+                        adapter.setItemChecked(checkedItem, true);
+                    }
+                }
+            }
+
+            if (enabledItems != null && enabledItems.length == itemCount) {
+                adaptEnabledItems(enabledItems);
             }
         }
     }
@@ -433,6 +868,22 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         adaptItemColor();
     }
 
+    @Override
+    public final boolean areItemViewsFlattened() {
+        return itemViewsFlattened;
+    }
+
+    @Override
+    public final void setItemViewsFlattened(final boolean flattened) {
+        if (this.itemViewsFlattened != flattened) {
+            this.itemViewsFlattened = flattened;
+
+            if (adapter != null) {
+                attachAdapter();
+            }
+        }
+    }
+
     @Override
     public final void setItemTypeface(@NonNull final Typeface typeface) {
         Condition.INSTANCE.ensureNotNull(typeface, "The typeface may not be null");
@@ -478,7 +929,33 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
 
     @Override
     public final int getItemCount() {
-        return adapter != null ? adapter.getItemCount() : 0;
+        return adapter != null ? adapter.getUnfilteredItemCount() : 0;
+    }
+
+    @Override
+    public final boolean isFilterFieldShown() {
+        return filterFieldShown;
+    }
+
+    @Override
+    public final void showFilterField(final boolean show) {
+        this.filterFieldShown = show;
+        adaptFilterField();
+    }
+
+    @Nullable
+    @Override
+    public final CharSequence getFilterQuery() {
+        return filterQuery;
+    }
+
+    @Override
+    public final void setFilterQuery(@Nullable final CharSequence query) {
+        if (!TextUtils.equals(filterQuery, query)) {
+            this.filterQuery = query;
+            adaptFilterField();
+            adaptFilter();
+        }
     }
 
     @Override
@@ -495,6 +972,32 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         adapter.setItemChecked(position, checked);
     }
 
+    @Override
+    public final void setItemsChecked(@NonNull final int[] positions, final boolean checked) {
+        Condition.INSTANCE.ensureNotNull(adapter, "No list items are shown by the dialog",
+                IndexOutOfBoundsException.class);
+        adapter.setItemsChecked(positions, checked);
+    }
+
+    @Override
+    public final void setAllItemsChecked(final boolean checked) {
+        Condition.INSTANCE.ensureNotNull(adapter, "No list items are shown by the dialog",
+                IndexOutOfBoundsException.class);
+        adapter.setAllItemsChecked(checked);
+    }
+
+    @Override
+    public final void invertAllItemsChecked() {
+        Condition.INSTANCE.ensureNotNull(adapter, "No list items are shown by the dialog",
+                IndexOutOfBoundsException.class);
+        adapter.invertAllItemsChecked();
+    }
+
+    @Override
+    public final int getCheckedItemCount() {
+        return adapter != null ? adapter.getCheckedItemCount() : 0;
+    }
+
     @Override
     public final boolean isItemEnabled(final int position) {
         Condition.INSTANCE.ensureNotNull(adapter, "No list items are shown by the dialog",
@@ -509,6 +1012,14 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         adapter.setItemEnabled(position, enabled);
     }
 
+    @Override
+    public final void setItemsEnabled(final int fromPosition, final int toPosition,
+                                      final boolean enabled) {
+        Condition.INSTANCE.ensureNotNull(adapter, "No list items are shown by the dialog",
+                IndexOutOfBoundsException.class);
+        adapter.setItemsEnabled(fromPosition, toPosition, enabled);
+    }
+
     @Override
     public final void setItems(@Nullable final CharSequence[] items,
                                @Nullable final DialogInterface.OnClickListener listener) {
@@ -519,17 +1030,30 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     public final void setItems(@Nullable final CharSequence[] items,
                                @Nullable final int[] iconResourceIds,
                                @Nullable final DialogInterface.OnClickListener listener) {
+        boolean updated = this.items != null && items != null && updateItems(items,
+                iconResourceIds);
         this.items = items;
         this.iconResourceIds = iconResourceIds;
         this.singleChoiceItems = null;
         this.multiChoiceItems = null;
-        this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
-                new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_1, items,
-                        iconResourceIds), new NoChoiceMode()) : null;
-        this.layoutManager = new LinearLayoutManager(getContext());
+        this.itemLoader = null;
+
+        if (!updated) {
+            this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
+                    new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_1, items,
+                            iconResourceIds), new NoChoiceMode()) : null;
+            this.layoutManager = new LinearLayoutManager(getContext());
+        }
+
         this.singleChoiceListener = items != null ? listener : null;
         this.multiChoiceListener = null;
-        attachAdapter();
+
+        if (updated) {
+            initializeSelectionListener();
+            adaptFilter();
+        } else {
+            attachAdapter();
+        }
     }
 
     @Override
@@ -553,6 +1077,7 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.iconResourceIds = null;
         this.singleChoiceItems = null;
         this.multiChoiceItems = null;
+        this.itemLoader = null;
         this.adapter = adapter != null ?
                 new RecyclerViewAdapterWrapper<>(getContext(), adapter, new NoChoiceMode()) : null;
         this.layoutManager = adapter != null ?
@@ -575,14 +1100,21 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
                                            @Nullable final int[] iconResourceIds,
                                            final int checkedItem,
                                            @Nullable final DialogInterface.OnClickListener listener) {
+        boolean updated = this.singleChoiceItems != null && items != null && updateItems(items,
+                iconResourceIds);
         this.items = null;
         this.iconResourceIds = iconResourceIds;
         this.singleChoiceItems = items;
         this.multiChoiceItems = null;
-        this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
-                new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_single_choice,
-                        items, iconResourceIds), new SingleChoiceMode()) : null;
-        this.layoutManager = new LinearLayoutManager(getContext());
+        this.itemLoader = null;
+
+        if (!updated) {
+            this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
+                    new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_single_choice,
+                            items, iconResourceIds), new SingleChoiceMode()) : null;
+            this.layoutManager = new LinearLayoutManager(getContext());
+        }
+
         this.singleChoiceListener = items != null ? listener : null;
         this.multiChoiceListener = null;
 
@@ -590,7 +1122,12 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
             this.adapter.setItemChecked(checkedItem, true);
         }
 
-        attachAdapter();
+        if (updated) {
+            initializeSelectionListener();
+            adaptFilter();
+        } else {
+            attachAdapter();
+        }
     }
 
     @Override
@@ -617,6 +1154,7 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.iconResourceIds = null;
         this.singleChoiceItems = null;
         this.multiChoiceItems = null;
+        this.itemLoader = null;
         this.adapter = adapter != null ?
                 new RecyclerViewAdapterWrapper<>(getContext(), adapter, new SingleChoiceMode()) :
                 null;
@@ -647,14 +1185,21 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
                                           @Nullable final DialogInterface.OnMultiChoiceClickListener listener) {
         Condition.INSTANCE.ensureTrue(checkedItems == null || items == null ||
                 checkedItems.length == items.length, "Invalid number of checked items given");
+        boolean updated = this.multiChoiceItems != null && items != null && updateItems(items,
+                iconResourceIds);
         this.items = null;
         this.iconResourceIds = iconResourceIds;
         this.singleChoiceItems = null;
         this.multiChoiceItems = items;
-        this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
-                new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_multiple_choice,
-                        items, iconResourceIds), new MultipleChoiceMode()) : null;
-        this.layoutManager = new LinearLayoutManager(getContext());
+        this.itemLoader = null;
+
+        if (!updated) {
+            this.adapter = items != null ? new RecyclerViewAdapterWrapper<>(getContext(),
+                    new ArrayRecyclerViewAdapter(android.R.layout.simple_list_item_multiple_choice,
+                            items, iconResourceIds), new MultipleChoiceMode()) : null;
+            this.layoutManager = new LinearLayoutManager(getContext());
+        }
+
         this.singleChoiceListener = null;
         this.multiChoiceListener = items != null ? listener : null;
 
@@ -664,7 +1209,12 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
             }
         }
 
-        attachAdapter();
+        if (updated) {
+            initializeSelectionListener();
+            adaptFilter();
+        } else {
+            attachAdapter();
+        }
     }
 
     @Override
@@ -696,6 +1246,7 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         this.iconResourceIds = null;
         this.singleChoiceItems = null;
         this.multiChoiceItems = null;
+        this.itemLoader = null;
         this.adapter = adapter != null ?
                 new RecyclerViewAdapterWrapper<>(getContext(), adapter, new MultipleChoiceMode()) :
                 null;
@@ -714,6 +1265,83 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
         attachAdapter();
     }
 
+    @Override
+    public final void setItemSource(@Nullable final ItemSource source,
+                                    @Nullable final DialogInterface.OnClickListener listener) {
+        initializeItemSource(source, android.R.layout.simple_list_item_1, new NoChoiceMode());
+        this.singleChoiceListener = source != null ? listener : null;
+        this.multiChoiceListener = null;
+        attachAdapter();
+    }
+
+    @Override
+    public final void setSingleChoiceItemSource(@Nullable final ItemSource source,
+                                                final int checkedItem,
+                                                @Nullable final DialogInterface.OnClickListener listener) {
+        initializeItemSource(source, android.R.layout.simple_list_item_single_choice,
+                new SingleChoiceMode());
+        this.singleChoiceListener = source != null ? listener : null;
+        this.multiChoiceListener = null;
+
+        if (checkedItem != -1 && this.adapter != null) {
+            this.adapter.setItemChecked(checkedItem, true);
+        }
+
+        attachAdapter();
+    }
+
+    @Override
+    public final void setMultiChoiceItemSource(@Nullable final ItemSource source,
+                                               @Nullable final boolean[] checkedItems,
+                                               @Nullable final DialogInterface.OnMultiChoiceClickListener listener) {
+        Condition.INSTANCE.ensureTrue(checkedItems == null || source == null ||
+                        checkedItems.length == source.getItemCount(),
+                "Invalid number of checked items given");
+        initializeItemSource(source, android.R.layout.simple_list_item_multiple_choice,
+                new MultipleChoiceMode());
+        this.singleChoiceListener = null;
+        this.multiChoiceListener = source != null ? listener : null;
+
+        if (this.adapter != null && checkedItems != null) {
+            for (int i = 0; i < checkedItems.length; i++) {
+                this.adapter.setItemChecked(i, checkedItems[i]);
+            }
+        }
+
+        attachAdapter();
+    }
+
+    @Override
+    public final boolean areItemsRetainedInMemory() {
+        return itemsRetainedInMemory;
+    }
+
+    @Override
+    public final void setItemsRetainedInMemory(final boolean retainedInMemory) {
+        this.itemsRetainedInMemory = retainedInMemory;
+
+        if (!retainedInMemory) {
+            removeStoredItems();
+        }
+    }
+
+    @Override
+    public final int getItemPrefetchDistance() {
+        return itemPrefetchDistance;
+    }
+
+    @Override
+    public final void setItemPrefetchDistance(final int prefetchDistance) {
+        Condition.INSTANCE.ensureAtLeast(prefetchDistance, 0,
+                "The prefetch distance must be at least 0");
+        this.itemPrefetchDistance = prefetchDistance;
+
+        if (itemLoader != null) {
+            itemLoader.setPrefetchDistance(prefetchDistance);
+            loadVisibleItems();
+        }
+    }
+
     @Override
     public final void setOnItemSelectedListener(
             @Nullable final ListDialog.OnItemSelectedListener listener) {
@@ -737,19 +1365,33 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
     @Override
     public final void onSaveInstanceState(@NonNull final Bundle outState) {
         outState.putParcelable(ITEM_COLOR_EXTRA, getItemColor());
+        outState.putBoolean(SHOW_FILTER_FIELD_EXTRA, isFilterFieldShown());
+        outState.putCharSequence(FILTER_QUERY_EXTRA, getFilterQuery());
+
+        if (itemLoader != null) {
+            if (listView != null && layoutManager instanceof LinearLayoutManager) {
+                outState.putInt(ITEM_SOURCE_POSITION_EXTRA,
+                        ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition());
+            }
+
+            outState.putIntArray(CHECKED_ITEM_RUNS_EXTRA, getCheckedItemRuns());
+            outState.putIntArray(ENABLED_ITEM_RUNS_EXTRA, getEnabledItemRuns());
+        }
+
         outState.putIntArray(ICON_RESOURCE_IDS_EXTRA, iconResourceIds);
+        removeStoredItems();
 
         if (items != null) {
-            outState.putCharSequenceArray(ITEMS_EXTRA, items);
-            outState.putBooleanArray(ENABLED_ITEMS_EXTRA, getEnabledItems());
+            putItems(outState, ITEMS_EXTRA, items);
+            outState.putIntArray(ENABLED_ITEM_RUNS_EXTRA, getEnabledItemRuns());
         } else if (singleChoiceItems != null) {
-            outState.putCharSequenceArray(SINGLE_CHOICE_ITEMS_EXTRA, singleChoiceItems);
-            outState.putBooleanArray(CHECKED_ITEMS_EXTRA, getCheckedItems());
-            outState.putBooleanArray(ENABLED_ITEMS_EXTRA, getEnabledItems());
+            putItems(outState, SINGLE_CHOICE_ITEMS_EXTRA, singleChoiceItems);
+            outState.putIntArray(CHECKED_ITEM_RUNS_EXTRA, getCheckedItemRuns());
+            outState.putIntArray(ENABLED_ITEM_RUNS_EXTRA, getEnabledItemRuns());
         } else if (multiChoiceItems != null) {
-            outState.putCharSequenceArray(MULTI_CHOICE_ITEMS_EXTRA, multiChoiceItems);
-            outState.putBooleanArray(CHECKED_ITEMS_EXTRA, getCheckedItems());
-            outState.putBooleanArray(ENABLED_ITEMS_EXTRA, getEnabledItems());
+            putItems(outState, MULTI_CHOICE_ITEMS_EXTRA, multiChoiceItems);
+            outState.putIntArray(CHECKED_ITEM_RUNS_EXTRA, getCheckedItemRuns());
+            outState.putIntArray(ENABLED_ITEM_RUNS_EXTRA, getEnabledItemRuns());
         }
     }
 
@@ -761,18 +1403,28 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
             setItemColor(itemColor);
         }
 
-        CharSequence[] items = savedInstanceState.getCharSequenceArray(ITEMS_EXTRA);
+        showFilterField(savedInstanceState.getBoolean(SHOW_FILTER_FIELD_EXTRA));
+        setFilterQuery(savedInstanceState.getCharSequence(FILTER_QUERY_EXTRA));
+        pendingItemSourcePosition = savedInstanceState.getInt(ITEM_SOURCE_POSITION_EXTRA, -1);
+        boolean[] checkedItems = RunLengthEncoding
+                .decodeRuns(savedInstanceState.getIntArray(CHECKED_ITEM_RUNS_EXTRA));
+        boolean[] enabledItems = RunLengthEncoding
+                .decodeRuns(savedInstanceState.getIntArray(ENABLED_ITEM_RUNS_EXTRA));
+
+        if (itemLoader != null) {
+            adaptItemSourceStates(checkedItems, enabledItems);
+            adaptItemLoader();
+        }
+
+        CharSequence[] items = getItems(savedInstanceState, ITEMS_EXTRA);
         int[] iconResourceIds = savedInstanceState.getIntArray(ICON_RESOURCE_IDS_EXTRA);
 
         if (items != null) {
-            boolean[] enabledItems = savedInstanceState.getBooleanArray(ENABLED_ITEMS_EXTRA);
             setItems(items, iconResourceIds, this.singleChoiceListener);
             adaptEnabledItems(enabledItems);
         } else {
-            boolean[] checkedItems = savedInstanceState.getBooleanArray(CHECKED_ITEMS_EXTRA);
-            boolean[] enabledItems = savedInstanceState.getBooleanArray(ENABLED_ITEMS_EXTRA);
             CharSequence[] singleChoiceItems =
-                    savedInstanceState.getCharSequenceArray(SINGLE_CHOICE_ITEMS_EXTRA);
+                    getItems(savedInstanceState, SINGLE_CHOICE_ITEMS_EXTRA);
 
             if (singleChoiceItems != null) {
                 int checkedItem = checkedItems != null ? indexOfCheckedItem(checkedItems) : -1;
@@ -781,7 +1433,7 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
                 adaptEnabledItems(enabledItems);
             } else {
                 CharSequence[] multiChoiceItems =
-                        savedInstanceState.getCharSequenceArray(MULTI_CHOICE_ITEMS_EXTRA);
+                        getItems(savedInstanceState, MULTI_CHOICE_ITEMS_EXTRA);
 
                 if (multiChoiceItems != null) {
                     setMultiChoiceItems(multiChoiceItems, iconResourceIds, checkedItems,
@@ -816,7 +1468,35 @@ public class ListDialogDecorator extends AbstractDialogDecorator<ButtonBarDialog
 
     @Override
     protected final void onDetach() {
+        if (listView != null) {
+            listView.removeOnScrollListener(itemLoaderScrollListener);
+        }
+
+        if (filterField != null) {
+            filterField.removeTextChangedListener(filterFieldWatcher);
+            filterField = null;
+        }
+
+        if (!isChangingConfigurations()) {
+            removeStoredItems();
+        }
+
         this.listView = null;
     }
 
+    @Override
+    protected final void onReset() {
+        setItems((CharSequence[]) null, null);
+        setOnItemSelectedListener(null);
+        setOnItemEnabledListener(null);
+        itemTypeface = null;
+        setItemIconTintList(null);
+        setItemIconTintMode(PorterDuff.Mode.SRC_ATOP);
+        showFilterField(false);
+        setFilterQuery(null);
+        setItemViewsFlattened(false);
+        setItemsRetainedInMemory(false);
+        setItemPrefetchDistance(PagedItemLoader.DEFAULT_PREFETCH_DISTANCE);
+    }
+
 }
\ No newline at end of file
@@ -1837,4 +1837,17 @@ public class MaterialDialogDecorator extends AbstractDialogDecorator<Dialog>
         messageTextView = null;
     }
 
+    @Override
+    protected final void onReset() {
+        setTitle(null);
+        setMessage(null);
+        setIcon((Bitmap) null);
+        setIconTintMode(PorterDuff.Mode.SRC_ATOP);
+        titleTypeface = null;
+        messageTypeface = null;
+        setCustomTitle((View) null);
+        setCustomMessage((View) null);
+        setView((View) null);
+    }
+
 }
\ No newline at end of file
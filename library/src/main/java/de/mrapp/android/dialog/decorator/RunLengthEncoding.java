@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.decorator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Allows to encode arrays, which identify the list items, which have a specific state, as the
+ * lengths of alternating runs of list items, which do not have and have the state. This keeps the
+ * saved instance state of dialogs, which show many list items, small.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class RunLengthEncoding {
+
+    /**
+     * Creates a new class, which allows to encode arrays as the lengths of runs.
+     */
+    private RunLengthEncoding() {
+
+    }
+
+    /**
+     * Encodes a bit set, which contains the positions of the items, which have a specific state,
+     * as the lengths of alternating runs of items, which do not have and have the state, starting
+     * with a run of items, which do not have the state. The first run may have a length of 0. The
+     * bit set is processed run by run instead of item by item.
+     *
+     * @param values
+     *         The bit set, which contains the positions of the items, which have a specific state,
+     *         as an instance of the class {@link BitSet} or null
+     * @param length
+     *         The total number of items as an {@link Integer} value. Positions, which are greater
+     *         or equal, are ignored
+     * @return An array, which contains the lengths of the runs, as an {@link Integer} array or
+     * null, if the given bit set is null
+     */
+    @Nullable
+    static int[] encodeRuns(@Nullable final BitSet values, final int length) {
+        if (values != null) {
+            int[] runs = new int[2 * values.cardinality() + 1];
+            int count = 0;
+            int position = 0;
+            boolean current = false;
+
+            while (position < length) {
+                int next = current ? values.nextClearBit(position) : values.nextSetBit(position);
+
+                if (next == -1 || next > length) {
+                    next = length;
+                }
+
+                runs[count++] = next - position;
+                position = next;
+                current = !current;
+            }
+
+            if (count == 0) {
+                runs[count++] = 0;
+            }
+
+            return Arrays.copyOf(runs, count);
+        }
+
+        return null;
+    }
+
+    /**
+     * Decodes an array, which has been encoded by using the method {@link #encodeRuns(BitSet,
+     * int)}.
+     *
+     * @param runs
+     *         An array, which contains the lengths of the runs, as an {@link Integer} array or null
+     * @return An array, which identifies the items, which have a specific state, as a {@link
+     * Boolean} array or null, if the given array is null
+     */
+    @Nullable
+    static boolean[] decodeRuns(@Nullable final int[] runs) {
+        if (runs != null) {
+            int total = 0;
+
+            for (int run : runs) {
+                total += run;
+            }
+
+            boolean[] values = new boolean[total];
+            int position = 0;
+
+            for (int i = 0; i < runs.length; i++) {
+                if (i % 2 == 1) {
+                    Arrays.fill(values, position, position + runs[i], true);
+                }
+
+                position += runs[i];
+            }
+
+            return values;
+        }
+
+        return null;
+    }
+
+}
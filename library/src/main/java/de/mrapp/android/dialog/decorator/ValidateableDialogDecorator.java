@@ -111,4 +111,9 @@ public class ValidateableDialogDecorator extends AbstractDialogDecorator<Animate
 
     }
 
+    @Override
+    protected final void onReset() {
+        validators.clear();
+    }
+
 }
\ No newline at end of file
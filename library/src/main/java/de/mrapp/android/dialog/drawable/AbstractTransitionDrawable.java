@@ -13,10 +13,14 @@
  */
 package de.mrapp.android.dialog.drawable;
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.animation.ValueAnimator.AnimatorUpdateListener;
 import android.graphics.Canvas;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.LayerDrawable;
-import android.os.SystemClock;
+import android.view.animation.LinearInterpolator;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -42,10 +46,15 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
     private static final int TRANSITION_RUNNING = 1;
 
     /**
-     * The state when no transition is running.
+     * The state when no transition has been started.
      */
     private static final int TRANSITION_NONE = 2;
 
+    /**
+     * The state when a transition has been finished.
+     */
+    private static final int TRANSITION_FINISHED = 3;
+
     /**
      * The listener, which is notified about the transition's progress.
      */
@@ -57,9 +66,14 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
     private int duration;
 
     /**
-     * The time, the last transition has been started.
+     * The animator, which is used to drive the currently running transition.
+     */
+    private ValueAnimator animator;
+
+    /**
+     * The progress of the currently running transition as a value between 0.0 and 1.0.
      */
-    private long startTime;
+    private float progress;
 
     /**
      * The current state of the drawable.
@@ -86,6 +100,91 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
         }
     }
 
+    /**
+     * Creates and returns a listener, which allows to update the progress of the transition, each
+     * time a new animation frame is drawn. If the drawable is not attached to a view anymore, the
+     * transition is canceled.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * AnimatorUpdateListener}. The listener may not be null
+     */
+    @NonNull
+    private AnimatorUpdateListener createAnimatorUpdateListener() {
+        return new AnimatorUpdateListener() {
+
+            @Override
+            public void onAnimationUpdate(final ValueAnimator animation) {
+                if (getCallback() == null) {
+                    animation.cancel();
+                } else {
+                    progress = (Float) animation.getAnimatedValue();
+                    invalidateSelf();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a listener, which allows to finish the transition, when the animator,
+     * which drives it, has been ended or canceled.
+     *
+     * @return The listener, which has been created, as an instance of the type {@link
+     * Animator.AnimatorListener}. The listener may not be null
+     */
+    @NonNull
+    private Animator.AnimatorListener createAnimatorListener() {
+        return new AnimatorListenerAdapter() {
+
+            @Override
+            public void onAnimationEnd(final Animator animation) {
+                super.onAnimationEnd(animation);
+
+                if (animator == animation) {
+                    animator = null;
+                    state = TRANSITION_FINISHED;
+                    onEndTransition();
+                    notifyOnAnimationEnd();
+                    invalidateSelf();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Starts the animator, which drives the transition. The animator is synchronized with the
+     * display's frames and respects the animator duration scale of the device.
+     */
+    private void startAnimator() {
+        animator = ValueAnimator.ofFloat(0, 1);
+        animator.setDuration(duration);
+        animator.setInterpolator(new LinearInterpolator());
+        animator.addUpdateListener(createAnimatorUpdateListener());
+        animator.addListener(createAnimatorListener());
+        animator.start();
+    }
+
+    /**
+     * Finishes the current transition, if it has been started, but not finished yet. The animator,
+     * which drives the transition, is canceled and the transition is ended as if it had been run
+     * to completion.
+     */
+    private void finishTransition() {
+        if (state == TRANSITION_STARTING || state == TRANSITION_RUNNING) {
+            ValueAnimator previousAnimator = animator;
+            animator = null;
+            state = TRANSITION_FINISHED;
+
+            if (previousAnimator != null) {
+                previousAnimator.cancel();
+            }
+
+            onEndTransition();
+            notifyOnAnimationEnd();
+        }
+    }
+
     /**
      * The method, which is invoked on subclasses when the transition is about to start.
      */
@@ -144,13 +243,16 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
     }
 
     /**
-     * Starts the transition, which shows the second layer in front of the first layer.
+     * Starts the transition, which shows the second layer in front of the first layer. If a
+     * previous transition is still running, it is finished first.
      *
      * @param duration
      *         The duration of the transition in milliseconds as an {@link Integer} value
      */
     public final void startTransition(final int duration) {
+        finishTransition();
         this.duration = duration;
+        this.progress = 0;
         this.state = TRANSITION_STARTING;
         onStartTransition();
         notifyOnAnimationStart();
@@ -159,38 +261,18 @@ public abstract class AbstractTransitionDrawable extends LayerDrawable {
 
     @Override
     public final void draw(final Canvas canvas) {
-        boolean done = true;
-        float interpolatedTime = 0;
-
         if (state == TRANSITION_STARTING) {
-            startTime = SystemClock.uptimeMillis();
-            done = false;
             state = TRANSITION_RUNNING;
-        } else if (state == TRANSITION_RUNNING) {
-            if (startTime >= 0) {
-                interpolatedTime = (float) (SystemClock.uptimeMillis() - startTime) / duration;
-                done = interpolatedTime >= 1f;
-                interpolatedTime = Math.min(interpolatedTime, 1f);
-            }
+            startAnimator();
         }
 
-        if (done) {
-            onEndTransition();
-            Drawable first = getDrawable(0);
-            Drawable second = getDrawable(1);
-
-            if (state != TRANSITION_NONE) {
-                second.draw(canvas);
-            } else {
-                first.draw(canvas);
-            }
-
-            notifyOnAnimationEnd();
-            return;
+        if (state == TRANSITION_RUNNING) {
+            onDraw(progress, canvas);
+        } else if (state == TRANSITION_FINISHED) {
+            getDrawable(1).draw(canvas);
+        } else {
+            getDrawable(0).draw(canvas);
         }
-
-        onDraw(interpolatedTime, canvas);
-        invalidateSelf();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.drawable;
+
+import android.graphics.Bitmap;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A pool, which allows to reuse bitmaps, which are used by drawables, instead of allocating new
+ * ones. Bitmaps, which are not used anymore, are retained until the total size of all retained
+ * bitmaps exceeds a maximum size. In such case, the least recently returned bitmaps are evicted.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+public final class BitmapPool {
+
+    /**
+     * The default maximum size of all bitmaps, which are retained by the pool, in bytes.
+     */
+    public static final int DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * The single instance of the class.
+     */
+    private static BitmapPool instance;
+
+    /**
+     * A list, which contains the bitmaps, which are retained by the pool, ordered from the least
+     * recently to the most recently returned one.
+     */
+    private final LinkedList<Bitmap> bitmaps;
+
+    /**
+     * The maximum size of all bitmaps, which are retained by the pool, in bytes.
+     */
+    private int maxSize;
+
+    /**
+     * The current size of all bitmaps, which are retained by the pool, in bytes.
+     */
+    private int size;
+
+    /**
+     * The number of bitmaps, which have been obtained from the pool.
+     */
+    private int hitCount;
+
+    /**
+     * The number of bitmaps, which had to be allocated, because no suitable bitmap was retained by
+     * the pool.
+     */
+    private int missCount;
+
+    /**
+     * The number of bitmaps, which have been evicted from the pool.
+     */
+    private int evictionCount;
+
+    /**
+     * Creates a new pool, which allows to reuse bitmaps.
+     */
+    private BitmapPool() {
+        this.bitmaps = new LinkedList<>();
+        this.maxSize = DEFAULT_MAX_SIZE;
+        this.size = 0;
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    /**
+     * Evicts the least recently returned bitmaps, until the total size of all bitmaps, which are
+     * retained by the pool, does not exceed a specific size.
+     *
+     * @param maxSize
+     *         The size, which should not be exceeded, in bytes as an {@link Integer} value
+     */
+    private void trimToSize(final int maxSize) {
+        while (size > maxSize && !bitmaps.isEmpty()) {
+            Bitmap bitmap = bitmaps.removeFirst();
+            size -= bitmap.getByteCount();
+            bitmap.recycle();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Returns the single instance of the class.
+     *
+     * @return The single instance of the class as an instance of the class {@link BitmapPool}. The
+     * instance may not be null
+     */
+    @NonNull
+    public static synchronized BitmapPool getInstance() {
+        if (instance == null) {
+            instance = new BitmapPool();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns a bitmap with a specific size and configuration. If a suitable bitmap is retained by
+     * the pool, it is reused. Otherwise, a new bitmap is allocated. The content of a reused bitmap
+     * is undefined.
+     *
+     * @param width
+     *         The width of the bitmap in pixels as an {@link Integer} value. The width must be at
+     *         least 1
+     * @param height
+     *         The height of the bitmap in pixels as an {@link Integer} value. The height must be at
+     *         least 1
+     * @param config
+     *         The configuration of the bitmap as a value of the enum {@link Bitmap.Config}. The
+     *         configuration may not be null
+     * @return The bitmap as an instance of the class {@link Bitmap}. The bitmap may not be null
+     */
+    @NonNull
+    public synchronized Bitmap obtain(final int width, final int height,
+                                      @NonNull final Bitmap.Config config) {
+        Condition.INSTANCE.ensureAtLeast(width, 1, "The width must be at least 1");
+        Condition.INSTANCE.ensureAtLeast(height, 1, "The height must be at least 1");
+        Condition.INSTANCE.ensureNotNull(config, "The config may not be null");
+        Iterator<Bitmap> iterator = bitmaps.descendingIterator();
+
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height &&
+                    bitmap.getConfig() == config) {
+                iterator.remove();
+                size -= bitmap.getByteCount();
+                hitCount++;
+                return bitmap;
+            }
+        }
+
+        missCount++;
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns a bitmap, which is not used anymore, to the pool, in order to be reused. The bitmap
+     * must not be used by the caller afterwards.
+     *
+     * @param bitmap
+     *         The bitmap, which should be returned, as an instance of the class {@link Bitmap}. The
+     *         bitmap may not be null
+     */
+    public synchronized void release(@NonNull final Bitmap bitmap) {
+        Condition.INSTANCE.ensureNotNull(bitmap, "The bitmap may not be null");
+
+        if (!bitmap.isRecycled() && bitmap.isMutable() && !bitmaps.contains(bitmap)) {
+            bitmaps.addLast(bitmap);
+            size += bitmap.getByteCount();
+            trimToSize(maxSize);
+        }
+    }
+
+    /**
+     * Evicts all bitmaps, which are retained by the pool.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * Returns the maximum size of all bitmaps, which are retained by the pool.
+     *
+     * @return The maximum size of all bitmaps, which are retained by the pool, in bytes as an
+     * {@link Integer} value
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum size of all bitmaps, which are retained by the pool. If the bitmaps, which
+     * are currently retained, exceed the given size, the least recently returned ones are evicted.
+     *
+     * @param maxSize
+     *         The maximum size, which should be set, in bytes as an {@link Integer} value. The
+     *         maximum size must be at least 0
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        Condition.INSTANCE.ensureAtLeast(maxSize, 0, "The maximum size must be at least 0");
+        this.maxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Returns the current size of all bitmaps, which are retained by the pool.
+     *
+     * @return The current size of all bitmaps, which are retained by the pool, in bytes as an
+     * {@link Integer} value
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bitmaps, which have been reused.
+     *
+     * @return The number of bitmaps, which have been reused, as an {@link Integer} value
+     */
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of bitmaps, which had to be allocated, because no suitable bitmap was
+     * retained by the pool.
+     *
+     * @return The number of bitmaps, which had to be allocated, as an {@link Integer} value
+     */
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of bitmaps, which have been evicted from the pool.
+     *
+     * @return The number of bitmaps, which have been evicted from the pool, as an {@link Integer}
+     * value
+     */
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BitmapPool [size=" + size + ", maxSize=" + maxSize + ", hitCount=" + hitCount +
+                ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+    }
+
+}
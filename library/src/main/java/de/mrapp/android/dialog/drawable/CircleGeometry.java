@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.drawable;
+
+/**
+ * The geometry of a circle, which grows from a specific position and radius, until it covers a
+ * rectangular area. The center of the circle and its radius at the end of the transition only
+ * depend on the size of the area and the values, the transition has been started with.
+ * Therefore, they are calculated once, when the transition is started or the size changes,
+ * whereas only the current radius is calculated for each frame.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class CircleGeometry {
+
+    /**
+     * The horizontal position of the circle's center.
+     */
+    private float centerX;
+
+    /**
+     * The vertical position of the circle's center.
+     */
+    private float centerY;
+
+    /**
+     * The radius of the circle at the start of the transition.
+     */
+    private float startRadius;
+
+    /**
+     * The radius of the circle at the end of the transition.
+     */
+    private float endRadius;
+
+    /**
+     * Calculates the center of the circle and its radius at the end of the transition.
+     *
+     * @param width
+     *         The width of the area, which should be covered by the circle, in pixels as an {@link
+     *         Integer} value
+     * @param height
+     *         The height of the area, which should be covered by the circle, in pixels as an
+     *         {@link Integer} value
+     * @param fromX
+     *         The horizontal position, the circle grows from, in pixels as a {@link Float} value
+     *         or -1, if it grows from the center of the area
+     * @param fromY
+     *         The vertical position, the circle grows from, in pixels as a {@link Float} value or
+     *         -1, if it grows from the center of the area
+     * @param fromRadius
+     *         The radius of the circle at the start of the transition in pixels as a {@link
+     *         Float} value
+     */
+    void update(final int width, final int height, final float fromX, final float fromY,
+                final float fromRadius) {
+        centerX = fromX != -1 ? fromX : width / 2f;
+        centerY = fromY != -1 ? fromY : height / 2f;
+        float maxDistanceX = Math.max(centerX, width - centerX);
+        float maxDistanceY = Math.max(centerY, height - centerY);
+        startRadius = fromRadius;
+        endRadius = (float) Math.sqrt(maxDistanceX * maxDistanceX + maxDistanceY * maxDistanceY);
+    }
+
+    /**
+     * Returns the horizontal position of the circle's center.
+     *
+     * @return The horizontal position of the circle's center in pixels as a {@link Float} value
+     */
+    float getCenterX() {
+        return centerX;
+    }
+
+    /**
+     * Returns the vertical position of the circle's center.
+     *
+     * @return The vertical position of the circle's center in pixels as a {@link Float} value
+     */
+    float getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * Returns the radius of the circle at a specific point of the transition.
+     *
+     * @param interpolatedTime
+     *         The interpolated time of the transition as a {@link Float} value between 0 and 1
+     * @return The radius of the circle in pixels as a {@link Float} value
+     */
+    float getRadius(final float interpolatedTime) {
+        return startRadius + (endRadius - startRadius) * interpolatedTime;
+    }
+
+}
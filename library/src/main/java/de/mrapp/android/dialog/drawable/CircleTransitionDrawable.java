@@ -13,13 +13,17 @@
  */
 package de.mrapp.android.dialog.drawable;
 
+import android.annotation.TargetApi;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 
 import androidx.annotation.NonNull;
 import de.mrapp.util.Condition;
@@ -64,7 +68,19 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
     private int fromRadius;
 
     /**
-     * The bitmap, which is used to draw the drawable.
+     * The geometry of the circle, which is used by the currently running transition.
+     */
+    private final CircleGeometry geometry;
+
+    /**
+     * The path, which is used to clip the first layer, if the canvas supports anti-aliased
+     * clipping.
+     */
+    private final Path clipPath;
+
+    /**
+     * The bitmap, which is used to draw the drawable, if the canvas does not support anti-aliased
+     * clipping. It is obtained from the {@link BitmapPool}.
      */
     private Bitmap backingBitmap;
 
@@ -97,11 +113,103 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
         this.fromX = -1;
         this.fromY = -1;
         this.fromRadius = -1;
+        this.geometry = new CircleGeometry();
         this.paint = new Paint();
         this.paint.setAntiAlias(true);
         this.porterDuffPaint = new Paint();
         this.porterDuffPaint.setAntiAlias(true);
         this.porterDuffPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+        this.clipPath = new Path();
+    }
+
+    /**
+     * Calculates the center of the circle, which is used by the currently running transition, and
+     * the radius, which is reached at its end, depending on the drawable's bounds.
+     */
+    private void calculateGeometry() {
+        Rect bounds = getBounds();
+        geometry.update(bounds.width(), bounds.height(), fromX, fromY, fromRadius);
+    }
+
+    /**
+     * Returns, whether a specific canvas supports anti-aliased clipping, or not. Hardware
+     * accelerated canvases only clip paths with anti-aliasing as of Android 9, when rendering is
+     * performed by the Skia pipeline. On older versions, clipping would result in jagged edges.
+     *
+     * @param canvas
+     *         The canvas as an instance of the class {@link Canvas}. The canvas may not be null
+     * @return True, if the given canvas supports anti-aliased clipping, false otherwise
+     */
+    private boolean isClippingSupported(@NonNull final Canvas canvas) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.P && canvas.isHardwareAccelerated();
+    }
+
+    /**
+     * Draws the first layer, except for a circle, by clipping the canvas.
+     *
+     * @param canvas
+     *         The canvas, which should be used for drawing, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param x
+     *         The horizontal position of the circle's center in pixels as a {@link Float} value
+     * @param y
+     *         The vertical position of the circle's center in pixels as a {@link Float} value
+     * @param radius
+     *         The radius of the circle in pixels as a {@link Float} value
+     */
+    @TargetApi(Build.VERSION_CODES.P)
+    private void drawClipped(@NonNull final Canvas canvas, final float x, final float y,
+                             final float radius) {
+        clipPath.reset();
+        clipPath.addCircle(x, y, radius, Path.Direction.CW);
+        int saveCount = canvas.save();
+        canvas.clipOutPath(clipPath);
+        getDrawable(0).draw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    /**
+     * Draws the first layer, except for a circle, by using a backing bitmap.
+     *
+     * @param canvas
+     *         The canvas, which should be used for drawing, as an instance of the class {@link
+     *         Canvas}. The canvas may not be null
+     * @param x
+     *         The horizontal position of the circle's center in pixels as a {@link Float} value
+     * @param y
+     *         The vertical position of the circle's center in pixels as a {@link Float} value
+     * @param radius
+     *         The radius of the circle in pixels as a {@link Float} value
+     */
+    private void drawToBitmap(@NonNull final Canvas canvas, final float x, final float y,
+                              final float radius) {
+        Rect bounds = getBounds();
+
+        if (backingBitmap == null || backingBitmap.getWidth() != bounds.width() ||
+                backingBitmap.getHeight() != bounds.height()) {
+            releaseBackingBitmap();
+            backingBitmap = BitmapPool.getInstance()
+                    .obtain(Math.max(bounds.width(), 1), Math.max(bounds.height(), 1),
+                            Bitmap.Config.ARGB_8888);
+            backingCanvas = new Canvas(backingBitmap);
+        }
+
+        backingBitmap.eraseColor(Color.TRANSPARENT);
+        getDrawable(0).draw(backingCanvas);
+        backingCanvas.drawCircle(x, y, radius, porterDuffPaint);
+        canvas.drawBitmap(backingBitmap, 0, 0, paint);
+    }
+
+    /**
+     * Returns the bitmap, which is used to draw the drawable, to the {@link BitmapPool}, if it has
+     * been obtained.
+     */
+    private void releaseBackingBitmap() {
+        if (backingBitmap != null) {
+            BitmapPool.getInstance().release(backingBitmap);
+            backingBitmap = null;
+            backingCanvas = null;
+        }
     }
 
     /**
@@ -166,38 +274,34 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
         this.radius = radius;
     }
 
-    @Override
-    public final void setBounds(final int left, final int top, final int right, final int bottom) {
-        super.setBounds(left, top, right, bottom);
-        backingBitmap = Bitmap.createBitmap(right - left, bottom - top, Bitmap.Config.ARGB_8888);
-        backingCanvas = new Canvas(backingBitmap);
-    }
-
     @Override
     protected final void onStartTransition() {
         this.fromX = getX() != null ? getX() : -1;
         this.fromY = getY() != null ? getY() : -1;
         this.fromRadius = getRadius();
+        calculateGeometry();
+    }
+
+    @Override
+    protected final void onBoundsChange(final Rect bounds) {
+        super.onBoundsChange(bounds);
+        calculateGeometry();
     }
 
     @Override
     protected final void onDraw(final float interpolatedTime, @NonNull final Canvas canvas) {
-        float x = fromX != -1 ? fromX : getBounds().width() / 2f;
-        float y = fromY != -1 ? fromY : getBounds().height() / 2f;
-        float width = Math.max(x, getBounds().width() - x);
-        float height = Math.max(y, getBounds().height() - y);
-        double currentRadius = fromRadius +
-                (Math.sqrt(Math.pow(width, 2) + Math.pow(height, 2)) - fromRadius) *
-                        interpolatedTime;
+        float currentRadius = geometry.getRadius(interpolatedTime);
 
         if (currentRadius > 0) {
             getDrawable(1).draw(canvas);
-            backingBitmap.eraseColor(Color.TRANSPARENT);
-            getDrawable(0).draw(backingCanvas);
-            backingCanvas.drawCircle(fromX != -1 ? fromX : getBounds().width() / 2f,
-                    fromY != -1 ? fromY : getBounds().height() / 2f, (float) currentRadius,
-                    porterDuffPaint);
-            canvas.drawBitmap(backingBitmap, 0, 0, paint);
+
+            if (isClippingSupported(canvas)) {
+                drawClipped(canvas, geometry.getCenterX(), geometry.getCenterY(),
+                        currentRadius);
+            } else {
+                drawToBitmap(canvas, geometry.getCenterX(), geometry.getCenterY(),
+                        currentRadius);
+            }
         } else {
             getDrawable(0).draw(canvas);
         }
@@ -205,7 +309,7 @@ public class CircleTransitionDrawable extends AbstractTransitionDrawable {
 
     @Override
     protected final void onEndTransition() {
-
+        releaseBackingBitmap();
     }
 
 }
\ No newline at end of file
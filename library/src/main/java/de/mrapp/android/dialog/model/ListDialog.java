@@ -13,6 +13,8 @@
  */
 package de.mrapp.android.dialog.model;
 
+import androidx.annotation.NonNull;
+
 /**
  * Defines the interface, a dialog, which is designed according to Android 5's Material design
  * guidelines even on pre-Lollipop devices and may contain list items, must implement.
@@ -60,4 +62,48 @@ public interface ListDialog extends ButtonBarDialog, ListDialogDecorator {
 
     }
 
+    /**
+     * Defines the interface, a class that should be notified by a single call when multiple list
+     * items of a {@link ListDialog} have been selected or unselected at once, must implement. If an
+     * {@link OnItemSelectedListener} also implements this interface, it is notified via this
+     * interface instead of being notified about each list item individually.
+     */
+    interface OnItemsSelectedListener {
+
+        /**
+         * The method, which is invoked when multiple list items have been selected or unselected at
+         * once.
+         *
+         * @param positions
+         *         The positions of the list items, which have been selected or unselected, in
+         *         ascending order as an {@link Integer} array. The array may not be null
+         * @param selected
+         *         True, if the items have been selected, false otherwise
+         */
+        void onItemsSelectionStateChanged(@NonNull int[] positions, boolean selected);
+
+    }
+
+    /**
+     * Defines the interface, a class that should be notified by a single call when multiple list
+     * items of a {@link ListDialog} have been enabled or disabled at once, must implement. If an
+     * {@link OnItemEnabledListener} also implements this interface, it is notified via this
+     * interface instead of being notified about each list item individually.
+     */
+    interface OnItemsEnabledListener {
+
+        /**
+         * The method, which is invoked when multiple list items have been enabled or disabled at
+         * once.
+         *
+         * @param positions
+         *         The positions of the list items, which have been enabled or disabled, in
+         *         ascending order as an {@link Integer} array. The array may not be null
+         * @param enabled
+         *         True, if the items have been enabled, false otherwise
+         */
+        void onItemsEnableStateChanged(@NonNull int[] positions, boolean enabled);
+
+    }
+
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.dialog.adapter.ItemSource;
 
 /**
  * Defines the interface, a decorator, which allows to modify the view hierarchy of a dialog, which
@@ -140,6 +141,71 @@ public interface ListDialogDecorator extends Dialog {
      */
     void setItemIconTintMode(@NonNull PorterDuff.Mode mode);
 
+    /**
+     * Returns, whether the foreground of the dialog's list items is applied to their views
+     * directly, if possible, instead of wrapping them in an additional layout.
+     *
+     * @return True, if the foreground of the dialog's list items is applied to their views
+     * directly, false otherwise
+     */
+    boolean areItemViewsFlattened();
+
+    /**
+     * Sets, whether the foreground of the dialog's list items should be applied to their views
+     * directly, if possible, instead of wrapping them in an additional layout. This reduces the
+     * depth of the view hierarchy of each list item. The foreground is only applied directly, if
+     * the views of the list items support foregrounds and specify neither a foreground, nor a
+     * click listener, on their own.
+     *
+     * @param flattened
+     *         True, if the foreground of the dialog's list items should be applied to their views
+     *         directly, false otherwise
+     */
+    void setItemViewsFlattened(boolean flattened);
+
+    /**
+     * Returns, whether the field, which allows to filter the dialog's list items, is shown, or
+     * not.
+     *
+     * @return True, if the field, which allows to filter the dialog's list items, is shown, false
+     * otherwise
+     */
+    boolean isFilterFieldShown();
+
+    /**
+     * Sets, whether the field, which allows to filter the dialog's list items, should be shown, or
+     * not. The field is only shown, if the list items have been set as texts, not by using a custom
+     * adapter, and if the dialog does not use a custom view.
+     *
+     * @param show
+     *         True, if the field, which allows to filter the dialog's list items, should be shown,
+     *         false otherwise
+     */
+    void showFilterField(boolean show);
+
+    /**
+     * Returns the query, which is used to filter the dialog's list items.
+     *
+     * @return The query, which is used to filter the dialog's list items, as an instance of the
+     * type {@link CharSequence} or null, if all list items are shown
+     */
+    @Nullable
+    CharSequence getFilterQuery();
+
+    /**
+     * Sets the query, which should be used to filter the dialog's list items. Only the list items,
+     * whose texts contain the query, regardless of its case, are shown. The list items are filtered
+     * on a background thread and a query, which has not been completed yet, is cancelled when a
+     * new query is set. Filtering is only supported, if the list items have been set as texts, not
+     * by using a custom adapter. The positions, which are passed to or from the dialog's other
+     * methods, always refer to all list items, regardless of which ones are currently shown.
+     *
+     * @param query
+     *         The query, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if all list items should be shown
+     */
+    void setFilterQuery(@Nullable CharSequence query);
+
     /**
      * Returns the number of list items that are shown by the dialog.
      *
@@ -166,6 +232,48 @@ public interface ListDialogDecorator extends Dialog {
      */
     void setItemChecked(int position, boolean checked);
 
+    /**
+     * Sets, whether the list items at specific positions should be checked, or not. The adapter is
+     * notified about the changed list items in as few ranges as possible and the listener, which is
+     * notified when list items have been selected or unselected, is notified only once, if it
+     * implements the interface {@link ListDialog.OnItemsSelectedListener}. If the dialog does not
+     * allow to select multiple list items, only the last position is taken into account. If no
+     * list items are shown by the dialog, an {@link IndexOutOfBoundsException} will be thrown.
+     *
+     * @param positions
+     *         The positions of the list items as an {@link Integer} array. The array may not be
+     *         null
+     * @param checked
+     *         True, if the list items at the given positions should be checked, false otherwise
+     */
+    void setItemsChecked(@NonNull int[] positions, boolean checked);
+
+    /**
+     * Sets, whether all list items should be checked, or not. If the dialog does not allow to
+     * select multiple list items, only the last list item is taken into account. If no list items
+     * are shown by the dialog, an {@link IndexOutOfBoundsException} will be thrown.
+     *
+     * @param checked
+     *         True, if all list items should be checked, false otherwise
+     */
+    void setAllItemsChecked(boolean checked);
+
+    /**
+     * Inverts the selection state of all list items. If the dialog does not allow to select
+     * multiple list items, the selection state of the list items is not changed. If no list items
+     * are shown by the dialog, an {@link IndexOutOfBoundsException} will be thrown.
+     */
+    void invertAllItemsChecked();
+
+    /**
+     * Returns the number of list items, which are currently checked. The list items are not
+     * iterated to determine the number.
+     *
+     * @return The number of list items, which are currently checked, as an {@link Integer} value
+     * or 0, if no list items are shown by the dialog
+     */
+    int getCheckedItemCount();
+
     /**
      * Returns, whether the list item at a specific position is enabled, or not. If no list items
      * are shown by the dialog, an {@link IndexOutOfBoundsException} will be thrown.
@@ -185,6 +293,22 @@ public interface ListDialogDecorator extends Dialog {
      */
     void setItemEnabled(int position, boolean enabled);
 
+    /**
+     * Sets, whether the list items within a specific range should be enabled, or not. The adapter
+     * is notified about the changed list items in as few ranges as possible and the listener, which
+     * is notified when list items have been enabled or disabled, is notified only once, if it
+     * implements the interface {@link ListDialog.OnItemsEnabledListener}. If no list items are
+     * shown by the dialog, an {@link IndexOutOfBoundsException} will be thrown.
+     *
+     * @param fromPosition
+     *         The position of the first list item as an {@link Integer} value
+     * @param toPosition
+     *         The position after the last list item as an {@link Integer} value
+     * @param enabled
+     *         True, if the list items within the given range should be enabled, false otherwise
+     */
+    void setItemsEnabled(int fromPosition, int toPosition, boolean enabled);
+
     /**
      * Sets the items, which should be shown by the dialog.
      * <p>
@@ -205,6 +329,13 @@ public interface ListDialogDecorator extends Dialog {
     /**
      * Sets the items, which should be shown by the dialog.
      * <p>
+     * If the dialog already shows items, which have been set by using this method, the items are
+     * replaced without re-creating the list's views and the enable states of items, which are
+     * still shown, are retained. The changes are calculated synchronously on the UI thread, which
+     * takes longer the more items are shown and the more of them are changed. Large lists, whose
+     * items are replaced frequently, should therefore be loaded from an {@link ItemSource}
+     * instead.
+     * <p>
      * Note, that the attached listener is not stored using a dialog's
      * <code>onSaveInstanceState</code>-method, because it is not serializable. Therefore this
      * method must be called again after configuration changes, e.g when the orientation of the
@@ -303,6 +434,12 @@ public interface ListDialogDecorator extends Dialog {
      * Sets the selectable items, which should be shown by the dialog. Only one of the items can be
      * selected at once.
      * <p>
+     * If the dialog already shows single choice items, the items are replaced without re-creating
+     * the list's views. If no item should be checked, the previously checked item remains checked,
+     * if it is still shown. The changes are calculated synchronously on the UI thread, which takes
+     * longer the more items are shown and the more of them are changed. Large lists, whose items
+     * are replaced frequently, should therefore be loaded from an {@link ItemSource} instead.
+     * <p>
      * Note, that the attached listener is not stored using a dialog's
      * <code>onSaveInstanceState</code>-method, because it is not serializable. Therefore this
      * method must be called again after configuration changes, e.g when the orientation of the
@@ -416,6 +553,13 @@ public interface ListDialogDecorator extends Dialog {
      * Sets the selectable items, which should be shown by the dialog. Multiple items can be
      * selected at once.
      * <p>
+     * If the dialog already shows multiple choice items, the items are replaced without
+     * re-creating the list's views. If no checked items are given, previously checked items remain
+     * checked, if they are still shown. The changes are calculated synchronously on the UI thread,
+     * which takes longer the more items are shown and the more of them are changed. Large lists,
+     * whose items are replaced frequently, should therefore be loaded from an {@link ItemSource}
+     * instead.
+     * <p>
      * Note, that the attached listener is not stored using a dialog's
      * <code>onSaveInstanceState</code>-method, because it is not serializable. Therefore this
      * method must be called again after configuration changes, e.g when the orientation of the
@@ -512,6 +656,108 @@ public interface ListDialogDecorator extends Dialog {
             @Nullable RecyclerView.LayoutManager layoutManager, @Nullable boolean[] checkedItems,
             @Nullable DialogInterface.OnMultiChoiceClickListener listener);
 
+    /**
+     * Sets the item source, which provides the items, which should be shown by the dialog. The
+     * items are loaded page by page, when they are about to become visible. Items, which have not
+     * been loaded yet, are shown as placeholders without a text.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Only the position of the first visible item is
+     * stored. Therefore this method must be called again after configuration changes, e.g when the
+     * orientation of the device has changed, in order to show the items again.
+     *
+     * @param source   The item source, which should be set, as an instance of the type {@link
+     *                 ItemSource} or null, if no items should be shown by the dialog
+     * @param listener The listener, which should be notified, when an item is clicked, as an
+     *                 instance of the type {@link DialogInterface.OnClickListener} or null, if no
+     *                 listener should be notified
+     */
+    void setItemSource(@Nullable ItemSource source,
+                       @Nullable DialogInterface.OnClickListener listener);
+
+    /**
+     * Sets the item source, which provides the selectable items, which should be shown by the
+     * dialog. Only one of the items can be selected at once. The items are loaded page by page,
+     * when they are about to become visible.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Only the position of the first visible item is
+     * stored. Therefore this method must be called again after configuration changes, e.g when the
+     * orientation of the device has changed, in order to show the items again.
+     *
+     * @param source      The item source, which should be set, as an instance of the type {@link
+     *                    ItemSource} or null, if no items should be shown by the dialog
+     * @param checkedItem The index of the item, which should be selected by default, as an {@link
+     *                    Integer} value or -1, if no item should be selected by default
+     * @param listener    The listener, which should be notified, when an item is clicked, as an
+     *                    instance of the type {@link DialogInterface.OnClickListener} or null, if
+     *                    no listener should be notified
+     */
+    void setSingleChoiceItemSource(@Nullable ItemSource source, int checkedItem,
+                                   @Nullable DialogInterface.OnClickListener listener);
+
+    /**
+     * Sets the item source, which provides the selectable items, which should be shown by the
+     * dialog. Multiple items can be selected at once. The items are loaded page by page, when they
+     * are about to become visible.
+     * <p>
+     * Note, that neither the item source, nor the attached listener, are stored using a dialog's
+     * <code>onSaveInstanceState</code>-method. Only the position of the first visible item is
+     * stored. Therefore this method must be called again after configuration changes, e.g when the
+     * orientation of the device has changed, in order to show the items again.
+     *
+     * @param source       The item source, which should be set, as an instance of the type {@link
+     *                     ItemSource} or null, if no items should be shown by the dialog
+     * @param checkedItems An array, which contains, whether the items, which correspond to the
+     *                     corresponding indices, should be selected by default, or not, as a {@link
+     *                     Boolean} array or null, if no items should be selected by default
+     * @param listener     The listener, which should be notified, when an item is clicked, as an
+     *                     instance of the type {@link DialogInterface.OnMultiChoiceClickListener}
+     *                     or null, if no listener should be notified
+     */
+    void setMultiChoiceItemSource(@Nullable ItemSource source, @Nullable boolean[] checkedItems,
+                                  @Nullable DialogInterface.OnMultiChoiceClickListener listener);
+
+    /**
+     * Returns, whether the texts of large numbers of the dialog's items are retained in memory
+     * across configuration changes instead of being written to the saved instance state, or not.
+     *
+     * @return True, if the texts of large numbers of the dialog's items are retained in memory,
+     * false otherwise
+     */
+    boolean areItemsRetainedInMemory();
+
+    /**
+     * Sets, whether the texts of large numbers of the dialog's items should be retained in memory
+     * across configuration changes instead of being written to the saved instance state, or not.
+     * This keeps the saved instance state small, but the items are lost, if the process is
+     * terminated while the dialog is in the background. The items must then be set again. By
+     * default, all items are written to the saved instance state.
+     *
+     * @param retainedInMemory
+     *         True, if the texts of large numbers of the dialog's items should be retained in
+     *         memory, false otherwise
+     */
+    void setItemsRetainedInMemory(boolean retainedInMemory);
+
+    /**
+     * Returns the number of items before and after the visible ones, which are loaded in advance,
+     * if the dialog's items are provided by an item source.
+     *
+     * @return The number of items, which are loaded in advance, as an {@link Integer} value
+     */
+    int getItemPrefetchDistance();
+
+    /**
+     * Sets the number of items before and after the visible ones, which should be loaded in
+     * advance, if the dialog's items are provided by an item source.
+     *
+     * @param prefetchDistance
+     *         The number of items, which should be loaded in advance, as an {@link Integer} value.
+     *         The number must be at least 0
+     */
+    void setItemPrefetchDistance(int prefetchDistance);
+
     /**
      * Sets the listener, which should be notified, when an item, which is shown by the dialog is
      * selected or unselected.
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+/**
+ * Provides static methods, which allow to determine the order, in which the areas of a dialog are
+ * arranged, based on their indices.
+ *
+ * @author Michael Rapp
+ * @since 5.3.0
+ */
+final class AreaOrder {
+
+    /**
+     * Creates a new class, which provides static methods, which allow to determine the order, in
+     * which the areas of a dialog are arranged.
+     */
+    private AreaOrder() {
+
+    }
+
+    /**
+     * Compares the indices of two areas.
+     *
+     * @param index1
+     *         The index of the first area as an {@link Integer} value
+     * @param index2
+     *         The index of the second area as an {@link Integer} value
+     * @return A negative value, if the first area is arranged above the second one, 0, if both
+     * areas are the same, or a positive value, if the first area is arranged below the second one
+     */
+    static int compare(final int index1, final int index2) {
+        return index1 > index2 ? 1 : (index1 == index2 ? 0 : -1);
+    }
+
+}
@@ -30,6 +30,7 @@ import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.view.ViewTreeObserver.OnGlobalLayoutListener;
 import android.view.ViewTreeObserver.OnScrollChangedListener;
 import android.widget.AbsListView;
@@ -40,15 +41,22 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StyleRes;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
+import androidx.core.view.ViewCompat;
 import androidx.core.util.Pair;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -225,6 +233,24 @@ public class DialogRootView extends LinearLayout implements AreaListener {
 
     }
 
+    /**
+     * Contains all possible modes, which may be used to draw the background of a dialog's window.
+     */
+    public enum WindowBackgroundMode {
+
+        /**
+         * If the window background is drawn directly to a hardware layer of the view's canvas.
+         */
+        HARDWARE_LAYER,
+
+        /**
+         * If the window background is drawn to a software bitmap, which is then drawn to the view's
+         * canvas.
+         */
+        SOFTWARE_BITMAP
+
+    }
+
     /**
      * A comparator, which compares values of the enum {@link Area}.
      */
@@ -232,13 +258,25 @@ public class DialogRootView extends LinearLayout implements AreaListener {
 
         @Override
         public int compare(final Area area1, final Area area2) {
-            int index1 = area1.getIndex();
-            int index2 = area2.getIndex();
-            return index1 > index2 ? 1 : (index1 == index2 ? 0 : -1);
+            return AreaOrder.compare(area1.getIndex(), area2.getIndex());
         }
 
     }
 
+    /**
+     * The size of the buckets in pixels, the width and height of the bitmap, which is used to draw
+     * the view's background, are rounded up to. This allows to reuse the bitmap when the size of
+     * the view changes slightly.
+     */
+    private static final int BACKING_BITMAP_BUCKET_SIZE = 64;
+
+    /**
+     * The factor, by which the number of pixels of the bitmap, which is used to draw the view's
+     * background, must exceed the number of pixels that are actually required, before the bitmap is
+     * shrunk.
+     */
+    private static final int BACKING_BITMAP_SHRINK_FACTOR = 2;
+
     /**
      * True, if the dialog is shown fullscreen, false otherwise.
      */
@@ -265,13 +303,19 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private Rect windowInsets;
 
+    /**
+     * The padding of the drawable, which is shown as the dialog's window background.
+     */
+    private Rect windowBackgroundPadding;
+
     /**
      * The paint, which is used to draw the view's background.
      */
     private Paint paint;
 
     /**
-     * The bitmap, which is used to draw the view's background.
+     * The bitmap, which is used to draw the view's background to canvases, which are not hardware
+     * accelerated, or null, if no such canvas has been drawn to yet.
      */
     private Bitmap backingBitmap;
 
@@ -280,11 +324,41 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private Canvas backingCanvas;
 
+    /**
+     * The bounds of the region of the bitmap, which is used to draw the view's background, that
+     * is actually used.
+     */
+    private Rect backingBitmapBounds;
+
+    /**
+     * True, if the view's background must be drawn to the bitmap, which is used to draw the view's
+     * background, again, false otherwise.
+     */
+    private boolean backingBitmapInvalidated;
+
     /**
      * The scroll view, which contains the scrollable areas of the dialog.
      */
     private ScrollView scrollView;
 
+    /**
+     * The scroll view, which has been inflated in order to contain the scrollable areas of the
+     * dialog. It is retained in order to be reused, when the dialog's areas are changed.
+     */
+    private ScrollView inflatedScrollView;
+
+    /**
+     * The top padding of the scroll view, which contains the scrollable areas of the dialog, as
+     * specified by its layout resource.
+     */
+    private int scrollViewDefaultPaddingTop;
+
+    /**
+     * The container, which is contained by the dialog's scroll view, if multiple areas are
+     * scrollable.
+     */
+    private LinearLayout scrollContainer;
+
     /**
      * The list view, which is contained by the dialog.
      */
@@ -295,6 +369,46 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private RecyclerView recyclerView;
 
+    /**
+     * The listener, which is notified, when the list view, which is contained by the dialog, is
+     * scrolled.
+     */
+    private AbsListView.OnScrollListener listViewScrollListener;
+
+    /**
+     * The listener, which is notified, when the recycler view, which is contained by the dialog,
+     * is scrolled.
+     */
+    private RecyclerView.OnScrollListener recyclerViewScrollListener;
+
+    /**
+     * The listener, which is notified, when the view tree of the dialog has been layouted.
+     */
+    private OnGlobalLayoutListener globalLayoutListener;
+
+    /**
+     * The runnable, which is used to adapt the visibility of the top and bottom divider.
+     */
+    private Runnable adaptDividerVisibilitiesRunnable;
+
+    /**
+     * True, if the adaptation of the visibility of the top and bottom divider has been posted to
+     * be executed on the next animation frame, false otherwise.
+     */
+    private boolean dividerVisibilitiesAdaptationPosted;
+
+    /**
+     * True, if the visibility of the top and bottom divider must be adapted, when the dialog has
+     * been layouted the next time, false otherwise.
+     */
+    private boolean dividerVisibilitiesInvalidated;
+
+    /**
+     * True, if the height of the scroll view must be adapted, when the dialog has been layouted the
+     * next time, false otherwise.
+     */
+    private boolean scrollViewHeightInvalidated;
+
     /**
      * The divider, which is shown above the scrollable areas of the dialog.
      */
@@ -305,6 +419,18 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private Divider bottomDivider;
 
+    /**
+     * The divider, which has been created in order to be shown above the scrollable areas of the
+     * dialog. It is retained in order to be reused, when the dialog's areas are changed.
+     */
+    private Divider createdTopDivider;
+
+    /**
+     * The divider, which has been created in order to be shown below the scrollable areas of the
+     * dialog. It is retained in order to be reused, when the dialog's areas are changed.
+     */
+    private Divider createdBottomDivider;
+
     /**
      * The views, which are contained by the dialog, mapped to the corresponding types.
      */
@@ -341,6 +467,12 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private int[] dialogPadding;
 
+    /**
+     * A map, which contains the bottom paddings, the views of the dialog's areas had, before any
+     * spacing or padding was applied to them.
+     */
+    private Map<View, Integer> defaultPaddingBottoms;
+
     /**
      * Initializes the view.
      */
@@ -350,8 +482,16 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         dividerColor = ContextCompat.getColor(getContext(), R.color.divider_color_light);
         dividerMargin = 0;
         dialogPadding = new int[]{0, 0, 0, 0};
+        defaultPaddingBottoms = new HashMap<>();
         paint = new Paint();
         paint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.MULTIPLY));
+        windowBackgroundPadding = new Rect();
+        backingBitmapBounds = new Rect();
+        backingBitmapInvalidated = true;
+        listViewScrollListener = createListViewScrollListener();
+        recyclerViewScrollListener = createRecyclerViewScrollListener();
+        globalLayoutListener = createGlobalLayoutListener();
+        adaptDividerVisibilitiesRunnable = createAdaptDividerVisibilitiesRunnable();
     }
 
     /**
@@ -359,15 +499,77 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      */
     private void adaptWindowBackgroundAndInsets() {
         super.setPadding(getLeftInset(), getTopInset(), getRightInset(), getBottomInset());
+        backingBitmapInvalidated = true;
         invalidate();
     }
 
     /**
-     * Adds the areas, which are contained by the dialog, to the root view.
+     * Rounds a specific size up to the next multiple of {@link #BACKING_BITMAP_BUCKET_SIZE}.
+     *
+     * @param size The size, which should be rounded, in pixels as an {@link Integer} value
+     * @return The rounded size in pixels as an {@link Integer} value
+     */
+    private static int roundToBucketSize(final int size) {
+        return ((size + BACKING_BITMAP_BUCKET_SIZE - 1) / BACKING_BITMAP_BUCKET_SIZE) *
+                BACKING_BITMAP_BUCKET_SIZE;
+    }
+
+    /**
+     * Adapts the bitmap, which is used to draw the view's background, to a specific size. The
+     * current bitmap is reused, if it is large enough and not considerably too large.
+     *
+     * @param width  The width of the view in pixels as an {@link Integer} value
+     * @param height The height of the view in pixels as an {@link Integer} value
+     */
+    private void adaptBackingBitmap(final int width, final int height) {
+        if (width > 0 && height > 0) {
+            int bucketWidth = roundToBucketSize(width);
+            int bucketHeight = roundToBucketSize(height);
+
+            if (backingBitmap == null || backingBitmap.getWidth() < width ||
+                    backingBitmap.getHeight() < height ||
+                    (long) backingBitmap.getWidth() * backingBitmap.getHeight() >
+                            (long) BACKING_BITMAP_SHRINK_FACTOR * bucketWidth * bucketHeight) {
+                releaseBackingBitmap();
+                backingBitmap =
+                        Bitmap.createBitmap(bucketWidth, bucketHeight, Bitmap.Config.ARGB_8888);
+                backingCanvas = new Canvas(backingBitmap);
+            }
+
+            if (backingBitmapBounds.width() != width || backingBitmapBounds.height() != height) {
+                backingBitmapBounds.set(0, 0, width, height);
+                backingBitmapInvalidated = true;
+            }
+        }
+    }
+
+    /**
+     * Releases the bitmap, which is used to draw the view's background, if it has been created.
      */
-    private void addAreas() {
+    private void releaseBackingBitmap() {
+        if (backingBitmap != null) {
+            backingBitmap.recycle();
+            backingBitmap = null;
+            backingCanvas = null;
+        }
+
+        backingBitmapInvalidated = true;
+    }
+
+    /**
+     * Adds the areas, which are contained by the dialog, to the root view. Views, which are already
+     * contained by the root view, are only moved, if necessary, and views, which are not needed
+     * anymore, are removed.
+     *
+     * @param affectedAreas A set, which contains the areas, whose views or neighbours have changed,
+     *                      as an instance of the type {@link Set} or null, if all areas are affected
+     */
+    private void addAreas(@Nullable final Set<Area> affectedAreas) {
         if (areas != null) {
-            removeAllViews();
+            List<View> children = new ArrayList<>();
+            List<View> scrollableChildren = new ArrayList<>();
+            ScrollView previousScrollView = scrollView;
+            List<View> previousScrollableChildren = getScrollableChildren();
             scrollView = null;
             topDivider = null;
             bottomDivider = null;
@@ -381,36 +583,167 @@ public class DialogRootView extends LinearLayout implements AreaListener {
                 if (scrollableArea.isScrollable(area)) {
                     if (topDivider == null && canAddTopDivider &&
                             !scrollableArea.isScrollable(previousArea)) {
-                        topDivider = addDivider();
+                        createdTopDivider = obtainDivider(createdTopDivider);
+                        topDivider = createdTopDivider;
+                        children.add(topDivider);
+                    }
+
+                    if (scrollView == null) {
+                        inflateScrollView();
+                        children.add(scrollView);
                     }
 
-                    inflateScrollView(scrollableArea);
-                    ViewGroup scrollContainer =
-                            scrollView.getChildCount() > 0 ? (ViewGroup) scrollView.getChildAt(0) :
-                                    scrollView;
-                    view.getViewTreeObserver()
-                            .addOnGlobalLayoutListener(createScrollViewChildLayoutListener());
-                    scrollContainer.addView(view);
+                    scrollableChildren.add(view);
                 } else {
                     if (bottomDivider == null && previousArea != null &&
                             scrollableArea.getBottomScrollableArea() != null &&
                             scrollableArea.getBottomScrollableArea().getIndex() < area.getIndex() &&
                             view.getVisibility() == View.VISIBLE && area != Area.BUTTON_BAR) {
-                        bottomDivider = addDivider();
+                        createdBottomDivider = obtainDivider(createdBottomDivider);
+                        bottomDivider = createdBottomDivider;
+                        children.add(bottomDivider);
                     }
 
-                    addView(view);
+                    children.add(view);
                 }
 
                 canAddTopDivider |= area != Area.HEADER && view.getVisibility() == View.VISIBLE;
                 previousArea = area;
             }
 
-            adaptAreaPadding();
+            if (scrollView != null) {
+                boolean scrollableChildrenChanged = previousScrollView != scrollView ||
+                        !scrollableChildren.equals(previousScrollableChildren);
+
+                if (scrollableChildrenChanged) {
+                    resetScrollView();
+                    scrollViewHeightInvalidated = true;
+                }
+
+                if (scrollableArea.getBottomScrollableArea().getIndex() -
+                        scrollableArea.getTopScrollableArea().getIndex() > 0) {
+                    inflateScrollContainer();
+                    reconcileChildren(scrollView, Collections.<View>singletonList(scrollContainer));
+                    reconcileChildren(scrollContainer, scrollableChildren);
+                } else {
+                    reconcileChildren(scrollView, scrollableChildren);
+                }
+            }
+
+            reconcileChildren(this, children);
+
+            if (affectedAreas == null || !affectedAreas.isEmpty()) {
+                adaptAreaPadding(affectedAreas);
+            }
+
             findListOrRecyclerView();
         }
     }
 
+    /**
+     * Returns the views of the areas, which are currently contained by the dialog's scroll view.
+     *
+     * @return A list, which contains the views of the areas, which are currently contained by the
+     * dialog's scroll view, as an instance of the type {@link List}. The list may not be null
+     */
+    @NonNull
+    private List<View> getScrollableChildren() {
+        List<View> result = new ArrayList<>();
+
+        if (scrollView != null) {
+            ViewGroup container = scrollView.getChildCount() > 0 &&
+                    scrollView.getChildAt(0) == scrollContainer ? scrollContainer : scrollView;
+
+            for (int i = 0; i < container.getChildCount(); i++) {
+                result.add(container.getChildAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adapts the children of a specific view group, so that it contains the given views in the
+     * given order. Children, which are already contained by the view group, are only moved, if
+     * necessary, and children, which are not contained by the given list, are removed.
+     *
+     * @param parent   The view group, whose children should be adapted, as an instance of the class
+     *                 {@link ViewGroup}. The view group may not be null
+     * @param children A list, which contains the views, the view group should contain, as an instance
+     *                 of the type {@link List}. The list may not be null
+     */
+    private void reconcileChildren(@NonNull final ViewGroup parent,
+                                   @NonNull final List<View> children) {
+        for (int i = parent.getChildCount() - 1; i >= 0; i--) {
+            if (!children.contains(parent.getChildAt(i))) {
+                parent.removeViewAt(i);
+            }
+        }
+
+        for (int i = 0; i < children.size(); i++) {
+            View child = children.get(i);
+
+            if (i >= parent.getChildCount() || parent.getChildAt(i) != child) {
+                ViewParent previousParent = child.getParent();
+
+                if (previousParent instanceof ViewGroup) {
+                    ((ViewGroup) previousParent).removeView(child);
+                }
+
+                parent.addView(child, i);
+            }
+        }
+    }
+
+    /**
+     * Returns the areas, whose views or neighbours differ between two specific maps of areas.
+     *
+     * @param previousAreas The map, which contains the previous areas, as an instance of the type
+     *                      {@link SortedMap} or null, if no areas have been added yet
+     * @param currentAreas  The map, which contains the current areas, as an instance of the type
+     *                      {@link SortedMap}. The map may not be null
+     * @return A set, which contains the areas, whose views or neighbours have changed, as an instance
+     * of the type {@link Set} or null, if all areas are affected
+     */
+    @Nullable
+    private Set<Area> getAffectedAreas(@Nullable final SortedMap<Area, View> previousAreas,
+                                       @NonNull final SortedMap<Area, View> currentAreas) {
+        if (previousAreas == null) {
+            return null;
+        }
+
+        Set<Area> result = EnumSet.noneOf(Area.class);
+        List<Area> previousOrder = new ArrayList<>(previousAreas.keySet());
+        List<Area> currentOrder = new ArrayList<>(currentAreas.keySet());
+
+        for (int i = 0; i < currentOrder.size(); i++) {
+            Area area = currentOrder.get(i);
+            int previousIndex = previousOrder.indexOf(area);
+
+            if (previousIndex == -1 || previousAreas.get(area) != currentAreas.get(area) ||
+                    getArea(previousOrder, previousIndex - 1) != getArea(currentOrder, i - 1) ||
+                    getArea(previousOrder, previousIndex + 1) != getArea(currentOrder, i + 1)) {
+                result.add(area);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the area at a specific index of a list.
+     *
+     * @param areas The list, which contains the areas, as an instance of the type {@link List}. The
+     *              list may not be null
+     * @param index The index of the area, which should be returned, as an {@link Integer} value
+     * @return The area at the given index as a value of the enum {@link Area} or null, if the index
+     * is out of bounds
+     */
+    @Nullable
+    private Area getArea(@NonNull final List<Area> areas, final int index) {
+        return index >= 0 && index < areas.size() ? areas.get(index) : null;
+    }
+
     /**
      * Searches for the list view, which is contained by the dialog, in order to register a scroll
      * listener.
@@ -435,11 +768,12 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     private boolean findListOrRecyclerView(@NonNull final View view) {
         if (view instanceof AbsListView) {
             this.listView = (AbsListView) view;
-            this.listView.setOnScrollListener(createListViewScrollListener());
+            this.listView.setOnScrollListener(listViewScrollListener);
             return true;
         } else if (view instanceof RecyclerView) {
             this.recyclerView = (RecyclerView) view;
-            this.recyclerView.addOnScrollListener(createRecyclerViewScrollListener());
+            this.recyclerView.removeOnScrollListener(recyclerViewScrollListener);
+            this.recyclerView.addOnScrollListener(recyclerViewScrollListener);
             return true;
         } else if (view instanceof ViewGroup) {
             ViewGroup viewGroup = (ViewGroup) view;
@@ -470,64 +804,85 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     }
 
     /**
-     * Adds a divider to the view.
+     * Returns a divider, which can be added to the view. If a divider has already been created, it
+     * is reused.
      *
-     * @return The divider, which has been added to the view, as an instance of the class {@link
+     * @param divider The divider, which has already been created, as an instance of the class
+     *                {@link Divider} or null, if no divider has been created yet
+     * @return The divider, which can be added to the view, as an instance of the class {@link
      * Divider}. The divider may not be null
      */
     @NonNull
-    private Divider addDivider() {
-        Divider divider = new Divider(getContext());
-        divider.setVisibility(View.INVISIBLE);
-        divider.setBackgroundColor(dividerColor);
+    private Divider obtainDivider(@Nullable final Divider divider) {
+        if (divider != null) {
+            adaptDividerColor(divider);
+            adaptDividerMargin(divider);
+            return divider;
+        }
+
+        Divider newDivider = new Divider(getContext());
+        newDivider.setVisibility(View.INVISIBLE);
+        newDivider.setBackgroundColor(dividerColor);
         LayoutParams layoutParams =
                 new LayoutParams(LayoutParams.MATCH_PARENT, dpToPixels(getContext(), 1));
         layoutParams.leftMargin = dividerMargin;
         layoutParams.rightMargin = dividerMargin;
-        addView(divider, layoutParams);
-        return divider;
+        newDivider.setLayoutParams(layoutParams);
+        return newDivider;
     }
 
     /**
      * Adapts the padding of the areas, which are contained by the dialog.
+     *
+     * @param affectedAreas A set, which contains the areas, whose padding should be adapted, as an
+     *                      instance of the type {@link Set} or null, if the padding of all areas
+     *                      should be adapted
      */
-    private void adaptAreaPadding() {
+    private void adaptAreaPadding(@Nullable final Set<Area> affectedAreas) {
         if (areas != null) {
             boolean paddingTopApplied = false;
             Area previousArea = null;
             View previousView = null;
+            boolean previousAreaAffected = false;
             int scrollViewPaddingTop = 0;
             int scrollViewMarginBottom = 0;
             Iterator<Map.Entry<Area, View>> iterator = areas.entrySet().iterator();
+            defaultPaddingBottoms.keySet().retainAll(areas.values());
 
             while (iterator.hasNext()) {
                 Map.Entry<Area, View> entry = iterator.next();
                 Area area = entry.getKey();
                 View view = entry.getValue();
 
-                applyDialogPaddingLeft(area, view);
-                applyDialogPaddingRight(area, view);
+                if (!defaultPaddingBottoms.containsKey(view)) {
+                    defaultPaddingBottoms.put(view, view.getPaddingBottom());
+                }
+
+                boolean areaAffected = affectedAreas == null || affectedAreas.contains(area);
+
+                if (areaAffected) {
+                    applyDialogPaddingLeft(area, view);
+                    applyDialogPaddingRight(area, view);
+                }
 
                 if (!paddingTopApplied) {
-                    paddingTopApplied = applyDialogPaddingTop(area, view);
+                    paddingTopApplied = applyDialogPaddingTop(area, view, areaAffected);
                 }
 
-                if (!iterator.hasNext()) {
+                if (!iterator.hasNext() && areaAffected) {
                     applyDialogPaddingBottom(area, view);
                 }
 
                 if (previousArea != null) {
-                    if (area == Area.BUTTON_BAR) {
-                        applyDialogPaddingBottom(previousArea, previousView);
-                    }
-
-                    Pair<Integer, Integer> pair = addViewSpacing(previousArea, previousView, area);
+                    Pair<Integer, Integer> pair =
+                            addViewSpacing(previousArea, previousView, area, previousAreaAffected);
                     scrollViewPaddingTop += pair.first != null ? pair.first : 0;
                     scrollViewMarginBottom += pair.second != null ? pair.second : 0;
                 }
 
                 previousArea = area;
                 previousView = view;
+                previousAreaAffected = areaAffected;
             }
 
             if (scrollView != null) {
@@ -535,51 +890,92 @@ public class DialogRootView extends LinearLayout implements AreaListener {
                         (LayoutParams) scrollView.getLayoutParams();
                 layoutParams.bottomMargin = scrollViewMarginBottom;
                 scrollView.setPadding(scrollView.getPaddingLeft(),
-                        scrollView.getPaddingTop() + scrollViewPaddingTop,
+                        scrollViewDefaultPaddingTop + scrollViewPaddingTop,
                         scrollView.getPaddingRight(), scrollView.getPaddingBottom());
             }
         }
     }
 
     /**
-     * Registers an {@link OnGlobalLayoutListener} at the dialog's scroll view or list view, if
-     * present, in order to be able to adjust the initial visibilities of the dividers as soon as
-     * the respective view has been layouted.
-     */
-    private void registerScrollLayoutListener() {
-        if (scrollView != null) {
-            scrollView.getViewTreeObserver()
-                    .addOnGlobalLayoutListener(createScrollViewLayoutListener(scrollView));
-        } else if (listView != null) {
-            listView.getViewTreeObserver()
-                    .addOnGlobalLayoutListener(createScrollViewLayoutListener(listView));
-        } else if (recyclerView != null) {
-            recyclerView.getViewTreeObserver()
-                    .addOnGlobalLayoutListener(createScrollViewLayoutListener(recyclerView));
-        }
-    }
-
-    /**
-     * Creates and returns a {@link OnGlobalLayoutListener}, which allows to adjust the initial
-     * visibility of the dividers, when a view has been layouted.
+     * Creates and returns a listener, which allows to observe, when the view tree of the dialog has
+     * been layouted. It is used to adjust the height of the dialog's scroll view and the initial
+     * visibilities of the dividers, when the dialog's areas have been changed.
      *
-     * @param view The observed view as an instance of the class {@link View}. The view may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * OnGlobalLayoutListener}. The listener may not be null
      */
     @NonNull
-    private OnGlobalLayoutListener createScrollViewLayoutListener(@NonNull final View view) {
+    private OnGlobalLayoutListener createGlobalLayoutListener() {
         return new OnGlobalLayoutListener() {
 
             @Override
             public void onGlobalLayout() {
-                ViewUtil.removeOnGlobalLayoutListener(view.getViewTreeObserver(), this);
+                if (scrollViewHeightInvalidated) {
+                    scrollViewHeightInvalidated = false;
+                    adaptScrollViewHeight();
+                }
+
+                if (dividerVisibilitiesInvalidated) {
+                    dividerVisibilitiesInvalidated = false;
+                    postDividerVisibilitiesAdaptation();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which allows to adapt the visibility of the top and bottom
+     * divider.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createAdaptDividerVisibilitiesRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                dividerVisibilitiesAdaptationPosted = false;
                 adaptDividerVisibilities();
             }
 
         };
     }
 
+    /**
+     * Posts the adaptation of the visibility of the top and bottom divider to be executed on the
+     * next animation frame, unless it has already been posted.
+     */
+    private void postDividerVisibilitiesAdaptation() {
+        if (!dividerVisibilitiesAdaptationPosted) {
+            dividerVisibilitiesAdaptationPosted = true;
+            ViewCompat.postOnAnimation(this, adaptDividerVisibilitiesRunnable);
+        }
+    }
+
+    /**
+     * Reduces the height of the dialog's scroll view to match the height of its child, if it is
+     * greater than necessary.
+     */
+    private void adaptScrollViewHeight() {
+        if (scrollView != null && scrollView.getChildCount() > 0) {
+            View child = scrollView.getChildAt(0);
+            int childHeight = child.getHeight();
+            int containerHeight = scrollView.getHeight() - scrollView.getPaddingTop() -
+                    scrollView.getPaddingBottom();
+
+            if (containerHeight > childHeight) {
+                LinearLayout.LayoutParams layoutParams =
+                        (LinearLayout.LayoutParams) scrollView.getLayoutParams();
+                layoutParams.height = childHeight;
+                layoutParams.weight = 0;
+                scrollView.requestLayout();
+            }
+        }
+    }
+
     /**
      * Adapts the visibility of the top and bottom divider, depending on the state of the dialog's
      * scroll view.
@@ -702,14 +1098,21 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      *
      * @param area The area, the view, the padding should be applied to, corresponds to, as an instance
      *             of the class {@link Area}. The area may not be null
-     * @param view The view, the padding should be applied to, as an instance of the class {@link View}.
-     *             The view may not be null
-     */
-    private boolean applyDialogPaddingTop(@NonNull final Area area, @NonNull final View view) {
+     * @param view  The view, the padding should be applied to, as an instance of the class {@link View}.
+     *              The view may not be null
+     * @param apply True, if the padding should actually be applied to the view, false, if it should
+     *              only be checked, whether the padding is applicable to the view
+     * @return True, if the padding is applicable to the view, false otherwise
+     */
+    private boolean applyDialogPaddingTop(@NonNull final Area area, @NonNull final View view,
+                                          final boolean apply) {
         if (area != Area.HEADER && area != Area.CONTENT && area != Area.BUTTON_BAR &&
                 view.getVisibility() == View.VISIBLE) {
-            view.setPadding(view.getPaddingLeft(), dialogPadding[1], view.getPaddingRight(),
-                    view.getPaddingBottom());
+            if (apply) {
+                view.setPadding(view.getPaddingLeft(), dialogPadding[1], view.getPaddingRight(),
+                        view.getPaddingBottom());
+            }
+
             return true;
         }
 
@@ -747,21 +1150,45 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     }
 
     /**
-     * Adds spacing to the view of a specific area. The spacing is added to the view's current
-     * bottom padding.
+     * Returns the bottom padding of the view of a specific area, the spacing between the view and
+     * the next area is added to.
+     *
+     * @param area     The area, the view corresponds to, as a value of the enum {@link Area}. The
+     *                 area may not be null
+     * @param view     The view as an instance of the class {@link View}. The view may not be null
+     * @param nextArea The area, which follows the given area, as a value of the enum {@link Area}
+     *                 or null, if the given area is the last one
+     * @return The bottom padding of the given view in pixels as an {@link Integer} value
+     */
+    private int getBasePaddingBottom(@NonNull final Area area, @NonNull final View view,
+                                     @Nullable final Area nextArea) {
+        if (area != Area.HEADER && area != Area.BUTTON_BAR &&
+                (nextArea == null || nextArea == Area.BUTTON_BAR)) {
+            return dialogPadding[3];
+        }
+
+        Integer defaultPaddingBottom = defaultPaddingBottoms.get(view);
+        return defaultPaddingBottom != null ? defaultPaddingBottom : view.getPaddingBottom();
+    }
+
+    /**
+     * Adds spacing to the view of a specific area. The spacing is added to the view's base bottom
+     * padding, which is either the dialog's bottom padding or the view's default bottom padding.
      *
      * @param previousArea The area, the view, the spacing should be applied to, corresponds to, as an instance
      *                     of the class {@link Area}. The area may not be null
      * @param previousView The view, the spacing should be applied to, as an instance of the class {@link View}.
      *                     The view may not be null
      * @param area         The current area as a value of the enum {@link Area}. The area may not be null
+     * @param apply        True, if the spacing should actually be added to the view, false, if only the
+     *                     padding of the dialog's scroll view should be calculated
      * @return A pair, which contains the top and bottom padding, which should be added to the
      * dialog's scroll view, as an instance of the class {@link Pair} value
      */
     @NonNull
     private Pair<Integer, Integer> addViewSpacing(@NonNull final Area previousArea,
                                                   @NonNull final View previousView,
-                                                  @NonNull final Area area) {
+                                                  @NonNull final Area area, final boolean apply) {
         int scrollViewPaddingTop = 0;
         int scrollViewMarginBottom = 0;
         int padding = -1;
@@ -784,9 +1211,10 @@ public class DialogRootView extends LinearLayout implements AreaListener {
             scrollViewMarginBottom = originalPadding - padding;
         }
 
-        if (padding != -1) {
+        if (apply) {
+            int basePadding = getBasePaddingBottom(previousArea, previousView, area);
             previousView.setPadding(previousView.getPaddingLeft(), previousView.getPaddingTop(),
-                    previousView.getPaddingRight(), previousView.getPaddingBottom() + padding);
+                    previousView.getPaddingRight(), basePadding + Math.max(padding, 0));
         }
 
         return Pair.create(scrollViewPaddingTop, scrollViewMarginBottom);
@@ -794,63 +1222,46 @@ public class DialogRootView extends LinearLayout implements AreaListener {
 
     /**
      * Inflates the scroll view, which contains the dialog's scrollable areas, if it has not been
-     * inflated yet.
-     *
-     * @param scrollableArea The scrollable area of the dialog, as an instance of the class {@link
-     *                       ScrollableArea}. The scrollable area may not be null
+     * inflated yet. Otherwise, the previously inflated scroll view is reused.
      */
-    private void inflateScrollView(@NonNull final ScrollableArea scrollableArea) {
-        if (scrollView == null) {
+    private void inflateScrollView() {
+        if (inflatedScrollView == null) {
             LayoutInflater layoutInflater = LayoutInflater.from(getContext());
-            scrollView = (ScrollView) layoutInflater
+            inflatedScrollView = (ScrollView) layoutInflater
                     .inflate(R.layout.material_dialog_scroll_view, this, false);
-            scrollView.addScrollListener(createScrollViewScrollListener());
-            scrollView.setDescendantFocusability(ViewGroup.FOCUS_BEFORE_DESCENDANTS);
-            scrollView.setFocusableInTouchMode(true);
-
-            if (scrollableArea.getBottomScrollableArea().getIndex() -
-                    scrollableArea.getTopScrollableArea().getIndex() > 0) {
-                LinearLayout scrollContainer = new LinearLayout(getContext());
-                scrollContainer.setOrientation(LinearLayout.VERTICAL);
-                scrollView.addView(scrollContainer, ScrollView.LayoutParams.MATCH_PARENT,
-                        ScrollView.LayoutParams.MATCH_PARENT);
-            }
-
-            addView(scrollView);
+            inflatedScrollView.addScrollListener(createScrollViewScrollListener());
+            inflatedScrollView.setDescendantFocusability(ViewGroup.FOCUS_BEFORE_DESCENDANTS);
+            inflatedScrollView.setFocusableInTouchMode(true);
+            scrollViewDefaultPaddingTop = inflatedScrollView.getPaddingTop();
         }
+
+        scrollView = inflatedScrollView;
     }
 
     /**
-     * Creates and returns a listener, which allows to observe, when the child of the dialog's
-     * scroll view has been layouted. If the scroll view's height is greater than necessary, its
-     * height is reduced to match the height of its child.
-     *
-     * @return The listener, which has been created, as an instance of the type {@link
-     * OnGlobalLayoutListener}. The listener may not be null
+     * Inflates the container, which is contained by the dialog's scroll view, if multiple areas are
+     * scrollable, if it has not been inflated yet.
      */
-    @NonNull
-    private OnGlobalLayoutListener createScrollViewChildLayoutListener() {
-        return new OnGlobalLayoutListener() {
-
-            @Override
-            public void onGlobalLayout() {
-                View child = scrollView.getChildAt(0);
-                int childHeight = child.getHeight();
-                int containerHeight = scrollView.getHeight() - scrollView.getPaddingTop() -
-                        scrollView.getPaddingBottom();
-
-                if (containerHeight > childHeight) {
-                    LinearLayout.LayoutParams layoutParams =
-                            (LinearLayout.LayoutParams) scrollView.getLayoutParams();
-                    layoutParams.height = childHeight;
-                    layoutParams.weight = 0;
-                    scrollView.requestLayout();
-                }
-
-                ViewUtil.removeOnGlobalLayoutListener(child.getViewTreeObserver(), this);
-            }
+    private void inflateScrollContainer() {
+        if (scrollContainer == null) {
+            scrollContainer = new LinearLayout(getContext());
+            scrollContainer.setOrientation(LinearLayout.VERTICAL);
+            scrollContainer.setLayoutParams(
+                    new ScrollView.LayoutParams(ScrollView.LayoutParams.MATCH_PARENT,
+                            ScrollView.LayoutParams.MATCH_PARENT));
+        }
+    }
 
-        };
+    /**
+     * Resets the height of the dialog's scroll view, which might have been reduced to match the
+     * height of its child, in order to adapt it to changed children.
+     */
+    private void resetScrollView() {
+        LinearLayout.LayoutParams layoutParams =
+                (LinearLayout.LayoutParams) scrollView.getLayoutParams();
+        layoutParams.height = 0;
+        layoutParams.weight = 1;
+        scrollView.setLayoutParams(layoutParams);
     }
 
     /**
@@ -1101,9 +1512,33 @@ public class DialogRootView extends LinearLayout implements AreaListener {
                                                   @Nullable final Rect windowInsets) {
         this.windowBackground = windowBackground;
         this.windowInsets = windowInsets;
+        this.windowBackgroundPadding.setEmpty();
+
+        if (windowBackground != null) {
+            windowBackground.getPadding(windowBackgroundPadding);
+        }
+
         adaptWindowBackgroundAndInsets();
     }
 
+    /**
+     * Returns the mode, which is used to draw the background of the dialog's window to a specific
+     * canvas. If the canvas is hardware accelerated and the device's API level supports blending
+     * layers on a hardware canvas, the window background is drawn directly to a hardware layer.
+     * Otherwise, e.g. if the view is drawn to a bitmap, a software bitmap is used.
+     *
+     * @param canvas
+     *         The canvas, the window background should be drawn to, as an instance of the class
+     *         {@link Canvas}. The canvas may not be null
+     * @return The mode, which is used to draw the background of the dialog's window, as a value of
+     * the enum {@link WindowBackgroundMode}. The mode may not be null
+     */
+    @NonNull
+    public final WindowBackgroundMode getWindowBackgroundMode(@NonNull final Canvas canvas) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.P && canvas.isHardwareAccelerated() ?
+                WindowBackgroundMode.HARDWARE_LAYER : WindowBackgroundMode.SOFTWARE_BITMAP;
+    }
+
     /**
      * Sets, whether the dialog is shown fullscreen, or not.
      *
@@ -1165,7 +1600,7 @@ public class DialogRootView extends LinearLayout implements AreaListener {
     public final void setScrollableArea(@NonNull final ScrollableArea scrollableArea) {
         Condition.INSTANCE.ensureNotNull(scrollableArea, "The scrollable area may not be null");
         this.scrollableArea = scrollableArea;
-        addAreas();
+        addAreas(null);
     }
 
     /**
@@ -1202,6 +1637,18 @@ public class DialogRootView extends LinearLayout implements AreaListener {
         adaptDividerMargin();
     }
 
+    /**
+     * Returns the bitmap, which is used to draw the view's background.
+     *
+     * @return The bitmap, which is used to draw the view's background, as an instance of the class
+     * {@link Bitmap} or null, if no bitmap has been created
+     */
+    @VisibleForTesting
+    @Nullable
+    final Bitmap getBackingBitmap() {
+        return backingBitmap;
+    }
+
     /**
      * Adds the different areas of a dialog to the root view.
      *
@@ -1210,6 +1657,7 @@ public class DialogRootView extends LinearLayout implements AreaListener {
      *              not be null
      */
     public final void addAreas(@NonNull final Map<ViewType, View> areas) {
+        SortedMap<Area, View> previousAreas = this.areas;
         this.areas = new TreeMap<>(new AreaComparator());
         this.dividers = new HashMap<>();
 
@@ -1224,25 +1672,25 @@ public class DialogRootView extends LinearLayout implements AreaListener {
             }
         }
 
-        addAreas();
+        addAreas(getAffectedAreas(previousAreas, this.areas));
         addDividers();
-        registerScrollLayoutListener();
+        dividerVisibilitiesInvalidated = true;
     }
 
     @Override
     public final void onAreaShown(@NonNull final Area area) {
-        adaptAreaPadding();
+        adaptAreaPadding(null);
     }
 
     @Override
     public final void onAreaHidden(@NonNull final Area area) {
-        adaptAreaPadding();
+        adaptAreaPadding(null);
     }
 
     @Override
     public final void setPadding(final int left, final int top, final int right, final int bottom) {
         this.dialogPadding = new int[]{left, top, right, bottom};
-        adaptAreaPadding();
+        adaptAreaPadding(null);
     }
 
     @SuppressLint("DrawAllocation")
@@ -1251,41 +1699,100 @@ public class DialogRootView extends LinearLayout implements AreaListener {
                                   final int b) {
         super.onLayout(changed, l, t, r, b);
 
-        if (changed) {
-            backingBitmap = Bitmap.createBitmap(r - l, b - t, Bitmap.Config.ARGB_8888);
-            backingCanvas = new Canvas(backingBitmap);
+        if (changed && (backingBitmap != null || !isHardwareAccelerated())) {
+            adaptBackingBitmap(r - l, b - t);
         }
     }
 
+    @SuppressLint("DrawAllocation")
     @Override
     public final void draw(final Canvas canvas) {
         super.draw(canvas);
 
         if (!fullscreen && windowBackground != null) {
-            int width = getWidth();
-            int height = getHeight();
-            windowBackground.setBounds(0, 0, width, height);
-            backingBitmap.eraseColor(Color.TRANSPARENT);
-            windowBackground.draw(backingCanvas);
-            canvas.drawBitmap(backingBitmap, 0, 0, paint);
+            if (getWindowBackgroundMode(canvas) == WindowBackgroundMode.HARDWARE_LAYER) {
+                drawWindowBackgroundToLayer(canvas);
+            } else {
+                drawWindowBackgroundToBitmap(canvas);
+            }
         }
     }
 
-    @Override
-    public final boolean onTouchEvent(final MotionEvent event) {
-        if (!fullscreen) {
-            float x = event.getX();
-            float y = event.getY();
-            Rect padding = new Rect();
+    /**
+     * Draws the window background to a software bitmap, which is then drawn to a specific canvas.
+     *
+     * @param canvas The canvas, the window background should be drawn to, as an instance of the
+     *               class {@link Canvas}. The canvas may not be null
+     */
+    private void drawWindowBackgroundToBitmap(@NonNull final Canvas canvas) {
+        if (backingBitmap == null) {
+            adaptBackingBitmap(getWidth(), getHeight());
+        }
 
-            if (windowBackground != null) {
-                windowBackground.getPadding(padding);
+        if (backingBitmap != null) {
+            if (backingBitmapInvalidated) {
+                windowBackground.setBounds(backingBitmapBounds);
+                backingBitmap.eraseColor(Color.TRANSPARENT);
+                windowBackground.draw(backingCanvas);
+                backingBitmapInvalidated = false;
             }
 
-            if (x < padding.left || x > getWidth() - padding.right || y < padding.top ||
-                    y > getHeight() - padding.bottom) {
-                return super.onTouchEvent(event);
-            }
+            canvas.drawBitmap(backingBitmap, backingBitmapBounds, backingBitmapBounds, paint);
+        }
+    }
+
+    /**
+     * Draws the window background directly to a hardware layer of a specific canvas.
+     *
+     * @param canvas The canvas, the window background should be drawn to, as an instance of the
+     *               class {@link Canvas}. The canvas may not be null
+     */
+    @TargetApi(Build.VERSION_CODES.P)
+    private void drawWindowBackgroundToLayer(@NonNull final Canvas canvas) {
+        int width = getWidth();
+        int height = getHeight();
+        int saveCount = canvas.saveLayer(0, 0, width, height, paint);
+        windowBackground.setBounds(0, 0, width, height);
+        windowBackground.draw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    protected final void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnGlobalLayoutListener(globalLayoutListener);
+    }
+
+    @Override
+    protected final void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        ViewUtil.removeOnGlobalLayoutListener(getViewTreeObserver(), globalLayoutListener);
+        removeCallbacks(adaptDividerVisibilitiesRunnable);
+        dividerVisibilitiesAdaptationPosted = false;
+        releaseBackingBitmap();
+    }
+
+    /**
+     * Returns, whether a specific position is located outside of the window background's content
+     * area, or not. The padding of the window background, which has been cached, when the
+     * background has been set, is used, which does not require any allocations.
+     *
+     * @param x The horizontal position in pixels as a {@link Float} value
+     * @param y The vertical position in pixels as a {@link Float} value
+     * @return True, if the given position is located outside of the window background's content
+     * area, false otherwise
+     */
+    @VisibleForTesting
+    final boolean isOutsideOfWindowBackground(final float x, final float y) {
+        Rect padding = windowBackgroundPadding;
+        return x < padding.left || x > getWidth() - padding.right || y < padding.top ||
+                y > getHeight() - padding.bottom;
+    }
+
+    @Override
+    public final boolean onTouchEvent(final MotionEvent event) {
+        if (!fullscreen && isOutsideOfWindowBackground(event.getX(), event.getY())) {
+            return super.onTouchEvent(event);
         }
 
         performClick();
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Allows to measure the number of bytes, which are allocated by the current thread, while a task
+ * is executed. Tests, which use this class, are skipped, if the JVM does not support measuring
+ * allocations.
+ *
+ * @author Michael Rapp
+ */
+public final class AllocationCounter {
+
+    /**
+     * The number of bytes, which may be allocated by the measurement itself.
+     */
+    public static final long TOLERANCE = 1024;
+
+    /**
+     * Creates a new class, which allows to measure allocations.
+     */
+    private AllocationCounter() {
+
+    }
+
+    /**
+     * Returns the number of bytes, which have been allocated by the current thread so far.
+     *
+     * @return The number of bytes as a {@link Long} value
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Executes a task a specific number of times and returns the number of bytes, which have been
+     * allocated meanwhile. The task is executed the same number of times before, in order to
+     * exclude allocations, which are caused by class loading or lazy initialization.
+     *
+     * @param repetitions
+     *         The number of times the task should be executed as an {@link Integer} value
+     * @param task
+     *         The task, which should be executed, as an instance of the type {@link Runnable}. The
+     *         task may not be null
+     * @return The number of bytes, which have been allocated, as a {@link Long} value
+     */
+    public static long measure(final int repetitions, final Runnable task) {
+        for (int i = 0; i < repetitions; i++) {
+            task.run();
+        }
+
+        long allocatedBytes = getAllocatedBytes();
+
+        for (int i = 0; i < repetitions; i++) {
+            task.run();
+        }
+
+        return getAllocatedBytes() - allocatedBytes;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog;
+
+import android.content.Context;
+import android.content.DialogInterface;
+import android.content.res.ColorStateList;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.Typeface;
+import android.view.Gravity;
+import android.view.View;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the functionality of the class {@link DialogPool}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DialogPoolTest {
+
+    /**
+     * Creates and returns a builder, which allows to create dialogs.
+     *
+     * @return The builder, which has been created, as an instance of the class {@link
+     * MaterialDialog.Builder}. The builder may not be null
+     */
+    @NonNull
+    private MaterialDialog.Builder createBuilder() {
+        Context context = ApplicationProvider.getApplicationContext();
+        return new MaterialDialog.Builder(context, R.style.MaterialDialog_Light);
+    }
+
+    /**
+     * Asserts, that two color state lists are equal.
+     *
+     * @param expected
+     *         The expected color state list as an instance of the class {@link ColorStateList} or
+     *         null
+     * @param actual
+     *         The actual color state list as an instance of the class {@link ColorStateList} or
+     *         null
+     */
+    private void assertColorStateListEquals(@Nullable final ColorStateList expected,
+                                            @Nullable final ColorStateList actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertEquals(expected.getDefaultColor(), actual.getDefaultColor());
+        }
+    }
+
+    /**
+     * Sets up the pool before each test.
+     */
+    @Before
+    public void setUp() {
+        DialogPool.getInstance().setMaxSize(1);
+    }
+
+    /**
+     * Disables the pool after each test.
+     */
+    @After
+    public void tearDown() {
+        DialogPool.getInstance().setMaxSize(0);
+    }
+
+    /**
+     * Tests, that a dialog, which is obtained from the pool, matches a dialog, which has been
+     * created from scratch.
+     */
+    @Test
+    public void testRecycledDialogMatchesNewDialog() {
+        MaterialDialog dialog = createBuilder().setTitle("Title").setMessage("Message")
+                .setIcon(android.R.drawable.ic_dialog_info)
+                .setIconTintMode(PorterDuff.Mode.MULTIPLY).setTitleTypeface(Typeface.MONOSPACE)
+                .setMessageTypeface(Typeface.SERIF).setTitleColor(Color.RED)
+                .setFullscreen(true).setGravity(Gravity.TOP).setCancelable(false)
+                .setCustomHeader(new View(ApplicationProvider.getApplicationContext()))
+                .setHeaderIconTintMode(PorterDuff.Mode.MULTIPLY)
+                .setPositiveButton("OK", (DialogInterface.OnClickListener) null)
+                .setButtonTypeface(Typeface.MONOSPACE).stackButtons(true)
+                .setItems(new CharSequence[]{"Item"}, null).setItemTypeface(Typeface.MONOSPACE)
+                .setItemIconTint(Color.RED).setItemIconTintMode(PorterDuff.Mode.MULTIPLY)
+                .setItemViewsFlattened(true).showFilterField(true).setItemPrefetchDistance(1)
+                .create();
+        DialogPool.getInstance().release(dialog);
+        MaterialDialog recycledDialog = createBuilder().create();
+        MaterialDialog newDialog = createBuilder().create();
+        assertSame(dialog, recycledDialog);
+        assertNotSame(recycledDialog, newDialog);
+        assertEquals(newDialog.getTitle(), recycledDialog.getTitle());
+        assertEquals(newDialog.getMessage(), recycledDialog.getMessage());
+        assertNull(recycledDialog.getIcon());
+        assertEquals(newDialog.getIconTintMode(), recycledDialog.getIconTintMode());
+        assertColorStateListEquals(newDialog.getIconTintList(), recycledDialog.getIconTintList());
+        assertEquals(newDialog.getTitleTypeface(), recycledDialog.getTitleTypeface());
+        assertEquals(newDialog.getMessageTypeface(), recycledDialog.getMessageTypeface());
+        assertEquals(newDialog.getTitleColor(), recycledDialog.getTitleColor());
+        assertEquals(newDialog.getMessageColor(), recycledDialog.getMessageColor());
+        assertEquals(newDialog.isFullscreen(), recycledDialog.isFullscreen());
+        assertEquals(newDialog.getGravity(), recycledDialog.getGravity());
+        assertEquals(newDialog.isCancelable(), recycledDialog.isCancelable());
+        assertEquals(newDialog.isCanceledOnTouchOutside(),
+                recycledDialog.isCanceledOnTouchOutside());
+        assertEquals(newDialog.isCustomTitleUsed(), recycledDialog.isCustomTitleUsed());
+        assertEquals(newDialog.isCustomMessageUsed(), recycledDialog.isCustomMessageUsed());
+        assertEquals(newDialog.isCustomViewUsed(), recycledDialog.isCustomViewUsed());
+        assertEquals(newDialog.isCustomHeaderUsed(), recycledDialog.isCustomHeaderUsed());
+        assertEquals(newDialog.getHeaderIconTintMode(), recycledDialog.getHeaderIconTintMode());
+        assertColorStateListEquals(newDialog.getHeaderIconTintList(),
+                recycledDialog.getHeaderIconTintList());
+        assertEquals(newDialog.getButtonTypeface(), recycledDialog.getButtonTypeface());
+        assertEquals(newDialog.areButtonsStacked(), recycledDialog.areButtonsStacked());
+        assertEquals(newDialog.isCustomButtonBarUsed(), recycledDialog.isCustomButtonBarUsed());
+        assertEquals(newDialog.getListAdapter(), recycledDialog.getListAdapter());
+        assertEquals(newDialog.getItemCount(), recycledDialog.getItemCount());
+        assertEquals(newDialog.getItemTypeface(), recycledDialog.getItemTypeface());
+        assertColorStateListEquals(newDialog.getItemIconTintList(),
+                recycledDialog.getItemIconTintList());
+        assertEquals(newDialog.getItemIconTintMode(), recycledDialog.getItemIconTintMode());
+        assertEquals(newDialog.areItemViewsFlattened(), recycledDialog.areItemViewsFlattened());
+        assertEquals(newDialog.isFilterFieldShown(), recycledDialog.isFilterFieldShown());
+        assertEquals(newDialog.getItemPrefetchDistance(),
+                recycledDialog.getItemPrefetchDistance());
+        assertEquals(newDialog.getShowAnimation(), recycledDialog.getShowAnimation());
+        assertEquals(newDialog.getDismissAnimation(), recycledDialog.getDismissAnimation());
+        assertEquals(newDialog.getCancelAnimation(), recycledDialog.getCancelAnimation());
+    }
+
+}
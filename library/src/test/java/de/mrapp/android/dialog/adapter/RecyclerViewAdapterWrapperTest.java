@@ -0,0 +1,286 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.adapter;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CheckedTextView;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.dialog.AllocationCounter;
+import de.mrapp.android.dialog.R;
+import de.mrapp.android.dialog.adapter.RecyclerViewAdapterWrapper.MultipleChoiceMode;
+import de.mrapp.android.dialog.adapter.RecyclerViewAdapterWrapper.ViewHolderWrapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Tests the functionality of the class {@link RecyclerViewAdapterWrapper}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+public class RecyclerViewAdapterWrapperTest {
+
+    /**
+     * A view holder, which contains a checkable view.
+     */
+    private static class CheckableViewHolder extends RecyclerView.ViewHolder {
+
+        /**
+         * Creates a new view holder, which contains a checkable view.
+         *
+         * @param context
+         *         The context, which should be used to create the view, as an instance of the
+         *         class {@link Context}. The context may not be null
+         */
+        CheckableViewHolder(@NonNull final Context context) {
+            super(new CheckedTextView(context));
+        }
+
+    }
+
+    /**
+     * An adapter, which does not modify its view holders when they are bound.
+     */
+    private static class CheckableAdapter extends RecyclerView.Adapter<CheckableViewHolder> {
+
+        /**
+         * The listener, which is set to the views of list items, or null, if no listener is set.
+         */
+        private View.OnClickListener clickListener;
+
+        /**
+         * True, if the views of list items are enabled, when they are created, false otherwise.
+         */
+        private boolean itemViewsEnabled = true;
+
+        @NonNull
+        @Override
+        public CheckableViewHolder onCreateViewHolder(@NonNull final ViewGroup parent,
+                                                      final int viewType) {
+            CheckableViewHolder holder = new CheckableViewHolder(parent.getContext());
+
+            if (clickListener != null) {
+                holder.itemView.setOnClickListener(clickListener);
+            }
+
+            holder.itemView.setEnabled(itemViewsEnabled);
+            return holder;
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull final CheckableViewHolder holder,
+                                     final int position) {
+
+        }
+
+        @Override
+        public int getItemCount() {
+            return 100;
+        }
+
+    }
+
+    /**
+     * The number of times a view holder is bound when measuring allocations.
+     */
+    private static final int BIND_COUNT = 10000;
+
+    /**
+     * Creates and returns a wrapper, which allows to select multiple list items.
+     *
+     * @return The wrapper, which has been created, as an instance of the class {@link
+     * RecyclerViewAdapterWrapper}. The wrapper may not be null
+     */
+    @NonNull
+    private RecyclerViewAdapterWrapper<CheckableViewHolder> createWrapper() {
+        return createWrapper(new CheckableAdapter());
+    }
+
+    /**
+     * Creates and returns a wrapper, which encapsulates a specific adapter and allows to select
+     * multiple list items.
+     *
+     * @param adapter
+     *         The adapter, which should be encapsulated, as an instance of the class {@link
+     *         CheckableAdapter}. The adapter may not be null
+     * @return The wrapper, which has been created, as an instance of the class {@link
+     * RecyclerViewAdapterWrapper}. The wrapper may not be null
+     */
+    @NonNull
+    private RecyclerViewAdapterWrapper<CheckableViewHolder> createWrapper(
+            @NonNull final CheckableAdapter adapter) {
+        Context context = new ContextThemeWrapper(ApplicationProvider.getApplicationContext(),
+                R.style.MaterialDialog_Light);
+        return new RecyclerViewAdapterWrapper<>(context, adapter, new MultipleChoiceMode());
+    }
+
+    /**
+     * Creates a view holder by using a specific wrapper.
+     *
+     * @param wrapper
+     *         The wrapper, which should be used to create the view holder, as an instance of the
+     *         class {@link RecyclerViewAdapterWrapper}. The wrapper may not be null
+     * @return The view holder, which has been created, as an instance of the class {@link
+     * ViewHolderWrapper}. The view holder may not be null
+     */
+    @NonNull
+    private ViewHolderWrapper<CheckableViewHolder> createViewHolder(
+            @NonNull final RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper) {
+        return wrapper.onCreateViewHolder(
+                new FrameLayout(ApplicationProvider.getApplicationContext()), 0);
+    }
+
+    /**
+     * Tests, that the selection state of a list item is applied synchronously, when its view
+     * holder is bound.
+     */
+    @Test
+    public void testCheckedStateIsAppliedWhenBound() {
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper();
+        wrapper.setItemChecked(5, true);
+        ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        CheckedTextView view = (CheckedTextView) holder.getWrappedViewHolder().itemView;
+        wrapper.onBindViewHolder(holder, 5);
+        assertTrue(view.isChecked());
+        wrapper.onBindViewHolder(holder, 6);
+        assertFalse(view.isChecked());
+    }
+
+    /**
+     * Tests, that the enable state of a list item is applied to its view, when its view holder is
+     * bound for the first time, even if the view has been disabled, when it has been created.
+     */
+    @Test
+    public void testEnableStateIsAppliedWhenBoundForTheFirstTime() {
+        CheckableAdapter adapter = new CheckableAdapter();
+        adapter.itemViewsEnabled = false;
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper(adapter);
+        ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        View view = holder.getWrappedViewHolder().itemView;
+        wrapper.onBindViewHolder(holder, 5);
+        assertTrue(view.isEnabled());
+        wrapper.setItemEnabled(6, false);
+        wrapper.onBindViewHolder(holder, 6);
+        assertFalse(view.isEnabled());
+    }
+
+    /**
+     * Tests, that the click listener of a view holder is created only once and not replaced when
+     * the view holder is bound.
+     */
+    @Test
+    public void testClickListenerIsReusedWhenBound() {
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper();
+        ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        View.OnClickListener listener = shadowOf(holder.itemView).getOnClickListener();
+
+        for (int i = 0; i < 10; i++) {
+            wrapper.onBindViewHolder(holder, i);
+            assertSame(listener, shadowOf(holder.itemView).getOnClickListener());
+        }
+    }
+
+    /**
+     * Tests, that the foreground is applied to the views of list items directly, if they are
+     * flattened and do not have a click listener.
+     */
+    @Test
+    public void testFlattenedItemViewWithoutClickListener() {
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper();
+        wrapper.setItemViewsFlattened(true);
+        ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        assertSame(holder.getWrappedViewHolder().itemView, holder.itemView);
+    }
+
+    /**
+     * Tests, that the click listener of a list item's view is not replaced, if the views of list
+     * items are flattened.
+     */
+    @Test
+    public void testFlattenedItemViewKeepsClickListener() {
+        View.OnClickListener clickListener = new View.OnClickListener() {
+
+            @Override
+            public void onClick(final View v) {
+
+            }
+
+        };
+        CheckableAdapter adapter = new CheckableAdapter();
+        adapter.clickListener = clickListener;
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper(adapter);
+        wrapper.setItemViewsFlattened(true);
+        ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        View wrappedView = holder.getWrappedViewHolder().itemView;
+        assertNotSame(wrappedView, holder.itemView);
+        assertSame(clickListener, shadowOf(wrappedView).getOnClickListener());
+    }
+
+    /**
+     * Tests, that inverting the selection state of all list items selects the unselected and
+     * unselects the selected list items, and that the number of selected list items is updated.
+     */
+    @Test
+    public void testInvertAllItemsChecked() {
+        RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper();
+        wrapper.setItemChecked(5, true);
+        wrapper.setItemChecked(7, true);
+        assertEquals(2, wrapper.getCheckedItemCount());
+        wrapper.invertAllItemsChecked();
+        assertEquals(wrapper.getUnfilteredItemCount() - 2, wrapper.getCheckedItemCount());
+        assertFalse(wrapper.isItemChecked(5));
+        assertFalse(wrapper.isItemChecked(7));
+        assertTrue(wrapper.isItemChecked(0));
+        assertTrue(wrapper.isItemChecked(6));
+    }
+
+    /**
+     * Tests, that binding a view holder, whose state does not change, does not allocate any
+     * objects.
+     */
+    @Test
+    public void testBindDoesNotAllocate() {
+        final RecyclerViewAdapterWrapper<CheckableViewHolder> wrapper = createWrapper();
+        wrapper.setItemChecked(5, true);
+        wrapper.setItemEnabled(5, false);
+        final ViewHolderWrapper<CheckableViewHolder> holder = createViewHolder(wrapper);
+        long allocatedBytes = AllocationCounter.measure(BIND_COUNT, new Runnable() {
+
+            @Override
+            public void run() {
+                wrapper.onBindViewHolder(holder, 5);
+            }
+
+        });
+        assertTrue("Binding allocated " + allocatedBytes + " bytes",
+                allocatedBytes <= AllocationCounter.TOLERANCE);
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.decorator;
+
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.dialog.MaterialDialog;
+import de.mrapp.android.dialog.R;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link ListDialogDecorator}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ListDialogDecoratorTest {
+
+    /**
+     * The number of list items, which are shown by the dialogs.
+     */
+    private static final int ITEM_COUNT = 10000;
+
+    /**
+     * Creates and returns a dialog, which shows list items.
+     *
+     * @param retainedInMemory
+     *         True, if the texts of the list items should be retained in memory, false otherwise
+     * @return The dialog, which has been created, as an instance of the class {@link
+     * MaterialDialog}. The dialog may not be null
+     */
+    @NonNull
+    private MaterialDialog createDialog(final boolean retainedInMemory) {
+        CharSequence[] items = new CharSequence[ITEM_COUNT];
+
+        for (int i = 0; i < items.length; i++) {
+            items[i] = "Item " + i;
+        }
+
+        MaterialDialog dialog = new MaterialDialog.Builder(
+                ApplicationProvider.getApplicationContext(), R.style.MaterialDialog_Light)
+                .create();
+        dialog.setItems(items, null);
+        dialog.setItemsRetainedInMemory(retainedInMemory);
+        return dialog;
+    }
+
+    /**
+     * Creates and returns a dialog, whose state is restored from a specific bundle.
+     *
+     * @param savedInstanceState
+     *         The bundle, the state should be restored from, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @return The dialog, which has been created, as an instance of the class {@link
+     * MaterialDialog}. The dialog may not be null
+     */
+    @NonNull
+    private MaterialDialog restoreDialog(@NonNull final Bundle savedInstanceState) {
+        MaterialDialog dialog = createDialog(false);
+        dialog.setItems((CharSequence[]) null, null);
+        dialog.onRestoreInstanceState(savedInstanceState);
+        return dialog;
+    }
+
+    /**
+     * Returns the size of a bundle, when it is written to a parcel.
+     *
+     * @param bundle
+     *         The bundle, whose size should be returned, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @return The size of the given bundle in bytes as an {@link Integer} value
+     */
+    private int getParceledSize(@NonNull final Bundle bundle) {
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.writeBundle(bundle);
+            return parcel.dataSize();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Tests, that retaining the texts of list items in memory reduces the size of the saved
+     * instance state considerably.
+     */
+    @Test
+    public void testRetainingItemsInMemoryReducesParceledSize() {
+        int parceledSize = getParceledSize(createDialog(false).onSaveInstanceState());
+        MaterialDialog dialog = createDialog(true);
+        int retainedSize = getParceledSize(dialog.onSaveInstanceState());
+        dialog.setItemsRetainedInMemory(false);
+        assertTrue("Parceled " + parceledSize + " bytes, retained " + retainedSize + " bytes",
+                retainedSize * 10 < parceledSize);
+    }
+
+    /**
+     * Tests, that list items, which are retained in memory, are restored and removed from the
+     * store afterwards.
+     */
+    @Test
+    public void testItemsRetainedInMemoryAreRestored() {
+        Bundle savedInstanceState = createDialog(true).onSaveInstanceState();
+        MaterialDialog restoredDialog = createDialog(false);
+        restoredDialog.setItems((CharSequence[]) null, null);
+        restoredDialog.onRestoreInstanceState(savedInstanceState);
+        assertNotNull(restoredDialog.getListAdapter());
+        assertEquals(ITEM_COUNT, restoredDialog.getListAdapter().getItemCount());
+        Bundle reusedInstanceState = new Bundle(savedInstanceState);
+        MaterialDialog dialog = createDialog(false);
+        dialog.setItems((CharSequence[]) null, null);
+        dialog.onRestoreInstanceState(reusedInstanceState);
+        assertNull(dialog.getListAdapter());
+    }
+
+    /**
+     * Tests, that the least recently stored list items are evicted, when the store is full,
+     * instead of rejecting further items.
+     */
+    @Test
+    public void testLeastRecentlyUsedItemsAreEvictedWhenStoreIsFull() {
+        Bundle evictedInstanceState = createDialog(true).onSaveInstanceState();
+        Bundle[] savedInstanceStates = new Bundle[ItemStore.MAX_ENTRIES];
+
+        for (int i = 0; i < savedInstanceStates.length; i++) {
+            savedInstanceStates[i] = createDialog(true).onSaveInstanceState();
+        }
+
+        assertNull(restoreDialog(evictedInstanceState).getListAdapter());
+
+        for (Bundle savedInstanceState : savedInstanceStates) {
+            MaterialDialog dialog = restoreDialog(savedInstanceState);
+            assertNotNull(dialog.getListAdapter());
+            assertEquals(ITEM_COUNT, dialog.getListAdapter().getItemCount());
+        }
+    }
+
+    /**
+     * Tests, that list items, which are retained in memory, are removed from the store, when the
+     * dialog is dismissed.
+     */
+    @Test
+    public void testItemsRetainedInMemoryAreRemovedOnDismiss() {
+        MaterialDialog dialog = createDialog(true);
+        dialog.show();
+        Bundle savedInstanceState = dialog.onSaveInstanceState();
+        dialog.dismiss();
+        assertNull(restoreDialog(savedInstanceState).getListAdapter());
+    }
+
+    /**
+     * Tests, that the selection and enable states of list items are saved and restored.
+     */
+    @Test
+    public void testCheckedAndEnabledItemsAreRestored() {
+        MaterialDialog dialog = createDialog(false);
+        CharSequence[] items = new CharSequence[ITEM_COUNT];
+
+        for (int i = 0; i < items.length; i++) {
+            items[i] = "Item " + i;
+        }
+
+        dialog.setMultiChoiceItems(items, (boolean[]) null, null);
+        dialog.setItemsChecked(new int[]{0, 1, 500, ITEM_COUNT - 1}, true);
+        dialog.setItemsEnabled(100, 200, false);
+        Bundle savedInstanceState = dialog.onSaveInstanceState();
+        MaterialDialog restoredDialog = createDialog(false);
+        restoredDialog.setItems((CharSequence[]) null, null);
+        restoredDialog.onRestoreInstanceState(savedInstanceState);
+        assertEquals(4, restoredDialog.getCheckedItemCount());
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            assertEquals(dialog.isItemChecked(i), restoredDialog.isItemChecked(i));
+            assertEquals(dialog.isItemEnabled(i), restoredDialog.isItemEnabled(i));
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.drawable;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import de.mrapp.android.dialog.animation.DrawableAnimation.AnimationListener;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the functionality of the class {@link CircleTransitionDrawable}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+public class CircleTransitionDrawableTest {
+
+    /**
+     * A listener, which counts how often a transition has been started and ended.
+     */
+    private static class CountingListener implements AnimationListener {
+
+        /**
+         * The number of transitions, which have been started.
+         */
+        private int startCount;
+
+        /**
+         * The number of transitions, which have been ended.
+         */
+        private int endCount;
+
+        @Override
+        public void onAnimationStart() {
+            startCount++;
+        }
+
+        @Override
+        public void onAnimationEnd() {
+            endCount++;
+        }
+
+    }
+
+    /**
+     * Clears the bitmap pool before each test.
+     */
+    @Before
+    public void setUp() {
+        BitmapPool.getInstance().clear();
+    }
+
+    /**
+     * Tests, that a transition, which is superseded by a new one, is finished. This ends the
+     * transition for the listener and returns its backing bitmap to the pool.
+     */
+    @Test
+    public void testSupersededTransitionIsFinished() {
+        CircleTransitionDrawable drawable = new CircleTransitionDrawable(
+                new Drawable[]{new ColorDrawable(Color.WHITE), new ColorDrawable(Color.BLACK)});
+        drawable.setBounds(0, 0, 100, 100);
+        drawable.setRadius(10);
+        CountingListener listener = new CountingListener();
+        drawable.setListener(listener);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+        drawable.startTransition(10000);
+        drawable.draw(canvas);
+        assertEquals(0, BitmapPool.getInstance().getSize());
+        drawable.startTransition(10000);
+        assertEquals(2, listener.startCount);
+        assertEquals(1, listener.endCount);
+        assertEquals(100 * 100 * 4, BitmapPool.getInstance().getSize());
+    }
+
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2014 - 2020 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.dialog.view;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Rect;
+import android.graphics.drawable.ColorDrawable;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import de.mrapp.android.dialog.AllocationCounter;
+import de.mrapp.android.dialog.ScrollableArea;
+import de.mrapp.android.dialog.ScrollableArea.Area;
+import de.mrapp.android.dialog.view.DialogRootView.AreaViewType;
+import de.mrapp.android.dialog.view.DialogRootView.ViewType;
+import de.mrapp.android.dialog.view.DialogRootView.WindowBackgroundMode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link DialogRootView}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DialogRootViewTest {
+
+    /**
+     * A drawable, which counts how often it has been drawn.
+     */
+    private static class CountingDrawable extends ColorDrawable {
+
+        /**
+         * The number of times the drawable has been drawn.
+         */
+        private int drawCount;
+
+        /**
+         * Creates a new drawable, which counts how often it has been drawn.
+         */
+        CountingDrawable() {
+            super(Color.WHITE);
+        }
+
+        @Override
+        public void draw(@NonNull final Canvas canvas) {
+            super.draw(canvas);
+            drawCount++;
+        }
+
+    }
+
+    /**
+     * A drawable, which provides a specific padding.
+     */
+    private static class PaddedDrawable extends ColorDrawable {
+
+        /**
+         * The padding of the drawable in pixels.
+         */
+        private final int padding;
+
+        /**
+         * Creates a new drawable, which provides a specific padding.
+         *
+         * @param padding
+         *         The padding of the drawable in pixels as an {@link Integer} value
+         */
+        PaddedDrawable(final int padding) {
+            super(Color.WHITE);
+            this.padding = padding;
+        }
+
+        @Override
+        public boolean getPadding(@NonNull final Rect padding) {
+            padding.set(this.padding, this.padding, this.padding, this.padding);
+            return true;
+        }
+
+    }
+
+    /**
+     * Creates and returns a root view, which uses a specific window background.
+     *
+     * @param windowBackground
+     *         The window background, which should be used, as an instance of the class {@link
+     *         CountingDrawable}. The window background may not be null
+     * @return The root view, which has been created, as an instance of the class {@link
+     * DialogRootView}. The root view may not be null
+     */
+    @NonNull
+    private DialogRootView createRootView(@NonNull final CountingDrawable windowBackground) {
+        DialogRootView rootView = new DialogRootView(ApplicationProvider.getApplicationContext());
+        rootView.setWindowBackgroundAndInset(windowBackground, new Rect());
+        return rootView;
+    }
+
+    /**
+     * Returns the number of global layout listeners, which are registered at a specific view tree
+     * observer.
+     *
+     * @param observer
+     *         The view tree observer as an instance of the class {@link ViewTreeObserver}. The
+     *         view tree observer may not be null
+     * @return The number of global layout listeners as an {@link Integer} value
+     * @throws Exception
+     *         The exception, which has been thrown, if the listeners could not be accessed
+     */
+    private static int getGlobalLayoutListenerCount(@NonNull final ViewTreeObserver observer)
+            throws Exception {
+        Field field = ViewTreeObserver.class.getDeclaredField("mOnGlobalLayoutListeners");
+        field.setAccessible(true);
+        Object listeners = field.get(observer);
+
+        if (listeners == null) {
+            return 0;
+        }
+
+        Method method = listeners.getClass().getDeclaredMethod("size");
+        method.setAccessible(true);
+        return (Integer) method.invoke(listeners);
+    }
+
+    /**
+     * Creates and returns a map, which contains the views of a dialog's title, message and content
+     * areas.
+     *
+     * @param rootView
+     *         The root view, the areas belong to, as an instance of the class {@link
+     *         DialogRootView}. The root view may not be null
+     * @return The map, which has been created, as an instance of the type {@link Map}. The map may
+     * not be null
+     */
+    @NonNull
+    private static Map<ViewType, View> createAreas(@NonNull final DialogRootView rootView) {
+        Map<ViewType, View> areas = new HashMap<>();
+        areas.put(new AreaViewType(Area.TITLE), new TextView(rootView.getContext()));
+        areas.put(new AreaViewType(Area.MESSAGE), new TextView(rootView.getContext()));
+        areas.put(new AreaViewType(Area.CONTENT), new TextView(rootView.getContext()));
+        return areas;
+    }
+
+    /**
+     * Tests, that the backing bitmap is reused, when the view is relayouted repeatedly with sizes
+     * that fit into the same bucket.
+     */
+    @Test
+    public void testBackingBitmapIsReusedAcrossRelayouts() {
+        DialogRootView rootView = createRootView(new CountingDrawable());
+        Set<Bitmap> bitmaps = Collections.newSetFromMap(new IdentityHashMap<Bitmap, Boolean>());
+
+        for (int i = 0; i < 100; i++) {
+            rootView.layout(0, 0, 400 + i % 10, 600 - i % 10);
+            bitmaps.add(rootView.getBackingBitmap());
+        }
+
+        assertEquals(1, bitmaps.size());
+    }
+
+    /**
+     * Tests, that a new backing bitmap is allocated, when the view grows beyond the size of the
+     * current one or shrinks considerably.
+     */
+    @Test
+    public void testBackingBitmapIsReallocatedWhenSizeChangesConsiderably() {
+        DialogRootView rootView = createRootView(new CountingDrawable());
+        rootView.layout(0, 0, 400, 600);
+        Bitmap bitmap = rootView.getBackingBitmap();
+        assertNotNull(bitmap);
+        rootView.layout(0, 0, 800, 600);
+        Bitmap grownBitmap = rootView.getBackingBitmap();
+        assertNotSame(bitmap, grownBitmap);
+        rootView.layout(0, 0, 810, 610);
+        assertSame(grownBitmap, rootView.getBackingBitmap());
+        rootView.layout(0, 0, 100, 100);
+        assertNotSame(grownBitmap, rootView.getBackingBitmap());
+    }
+
+    /**
+     * Tests, that the backing bitmap is released, when the view is detached from its window.
+     */
+    @Test
+    public void testBackingBitmapIsReleasedOnDetach() {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        FrameLayout container = new FrameLayout(activity);
+        activity.setContentView(container);
+        DialogRootView rootView = createRootView(new CountingDrawable());
+        container.addView(rootView);
+        rootView.layout(0, 0, 400, 600);
+        Bitmap bitmap = rootView.getBackingBitmap();
+        assertNotNull(bitmap);
+        container.removeView(rootView);
+        assertNull(rootView.getBackingBitmap());
+        assertTrue(bitmap.isRecycled());
+    }
+
+    /**
+     * Tests, that the window background is only rendered to the backing bitmap again, when its
+     * bounds have changed.
+     */
+    @Test
+    public void testWindowBackgroundIsOnlyRenderedWhenChanged() {
+        CountingDrawable windowBackground = new CountingDrawable();
+        DialogRootView rootView = createRootView(windowBackground);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(1000, 1000, Bitmap.Config.ARGB_8888));
+        rootView.layout(0, 0, 400, 600);
+
+        for (int i = 0; i < 10; i++) {
+            rootView.draw(canvas);
+        }
+
+        assertEquals(1, windowBackground.drawCount);
+        rootView.layout(0, 0, 410, 600);
+
+        for (int i = 0; i < 10; i++) {
+            rootView.draw(canvas);
+        }
+
+        assertEquals(2, windowBackground.drawCount);
+    }
+
+    /**
+     * Tests, that the window background is drawn by using a software bitmap, when the view is drawn
+     * to a canvas, which is not hardware accelerated.
+     */
+    @Test
+    public void testWindowBackgroundModeOfSoftwareCanvas() {
+        DialogRootView rootView = createRootView(new CountingDrawable());
+        Canvas canvas = new Canvas(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+        assertEquals(WindowBackgroundMode.SOFTWARE_BITMAP,
+                rootView.getWindowBackgroundMode(canvas));
+    }
+
+    /**
+     * Tests, that only a single global layout listener is registered by the view, regardless of
+     * how often it has been attached to its window and how often its areas have been changed.
+     *
+     * @throws Exception
+     *         The exception, which has been thrown, if the listeners could not be accessed
+     */
+    @Test
+    public void testSingleGlobalLayoutListenerAfterRepeatedAttaches() throws Exception {
+        Activity activity = Robolectric.setupActivity(Activity.class);
+        FrameLayout container = new FrameLayout(activity);
+        activity.setContentView(container);
+        ViewTreeObserver observer = container.getViewTreeObserver();
+        int initialCount = getGlobalLayoutListenerCount(observer);
+        DialogRootView rootView = new DialogRootView(activity);
+        rootView.setScrollableArea(ScrollableArea.create(Area.MESSAGE, Area.CONTENT));
+
+        for (int i = 0; i < 20; i++) {
+            container.addView(rootView);
+            rootView.addAreas(createAreas(rootView));
+            observer.dispatchOnGlobalLayout();
+            container.removeView(rootView);
+        }
+
+        assertEquals(initialCount, getGlobalLayoutListenerCount(observer));
+        container.addView(rootView);
+        rootView.addAreas(createAreas(rootView));
+        rootView.addAreas(createAreas(rootView));
+        assertEquals(initialCount + 1, getGlobalLayoutListenerCount(observer));
+    }
+
+    /**
+     * Tests, that the spacing between the dialog's areas is not added to the bottom padding of
+     * their views again, when the areas are updated repeatedly.
+     */
+    @Test
+    public void testAreaSpacingIsNotAddedRepeatedly() {
+        DialogRootView rootView = new DialogRootView(ApplicationProvider.getApplicationContext());
+        rootView.setPadding(10, 20, 30, 40);
+        Map<ViewType, View> areas = createAreas(rootView);
+        View titleView = areas.get(new AreaViewType(Area.TITLE));
+        View messageView = areas.get(new AreaViewType(Area.MESSAGE));
+        rootView.addAreas(areas);
+        int titlePaddingBottom = titleView.getPaddingBottom();
+        int messagePaddingBottom = messageView.getPaddingBottom();
+        areas.put(new AreaViewType(Area.CONTENT), new TextView(rootView.getContext()));
+        rootView.addAreas(areas);
+        assertEquals(titlePaddingBottom, titleView.getPaddingBottom());
+        assertEquals(messagePaddingBottom, messageView.getPaddingBottom());
+        rootView.setPadding(10, 20, 30, 40);
+        assertEquals(titlePaddingBottom, titleView.getPaddingBottom());
+        assertEquals(messagePaddingBottom, messageView.getPaddingBottom());
+    }
+
+    /**
+     * Tests, that the hit test, which is used to detect touches outside of the window background,
+     * takes the background's padding into account.
+     */
+    @Test
+    public void testIsOutsideOfWindowBackground() {
+        DialogRootView rootView = new DialogRootView(ApplicationProvider.getApplicationContext());
+        rootView.setWindowBackgroundAndInset(new PaddedDrawable(20), new Rect());
+        rootView.layout(0, 0, 400, 600);
+        assertTrue(rootView.isOutsideOfWindowBackground(10, 300));
+        assertTrue(rootView.isOutsideOfWindowBackground(390, 300));
+        assertTrue(rootView.isOutsideOfWindowBackground(200, 10));
+        assertTrue(rootView.isOutsideOfWindowBackground(200, 590));
+        assertFalse(rootView.isOutsideOfWindowBackground(200, 300));
+    }
+
+    /**
+     * Tests, that detecting touches outside of the window background does not allocate any memory
+     * for a stream of 10,000 events.
+     */
+    @Test
+    public void testOutsideTouchDetectionDoesNotAllocate() {
+        final DialogRootView rootView =
+                new DialogRootView(ApplicationProvider.getApplicationContext());
+        rootView.setWindowBackgroundAndInset(new PaddedDrawable(20), new Rect());
+        rootView.layout(0, 0, 400, 600);
+        final float[] positions = new float[]{10, 300, 390, 300, 200, 10, 200, 590, 200, 300};
+        long allocatedBytes = AllocationCounter.measure(10000, new Runnable() {
+
+            private int index;
+
+            @Override
+            public void run() {
+                int offset = (index++ % (positions.length / 2)) * 2;
+                rootView.isOutsideOfWindowBackground(positions[offset], positions[offset + 1]);
+            }
+
+        });
+        assertTrue("Allocated " + allocatedBytes + " bytes",
+                allocatedBytes < AllocationCounter.TOLERANCE);
+    }
+
+}